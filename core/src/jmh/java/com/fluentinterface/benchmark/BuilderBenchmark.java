@@ -0,0 +1,94 @@
+package com.fluentinterface.benchmark;
+
+import com.fluentinterface.BuilderFactory;
+import com.fluentinterface.examples.Person;
+import com.fluentinterface.examples.PersonBuilder;
+import com.fluentinterface.proxy.BuilderEngine;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.fluentinterface.ReflectionBuilder.implementationFor;
+
+/**
+ * Measures the cost of creating dynamic builders, calling their fluent setters and building the target object.
+ * <p>
+ * Run with: {@code mvn -pl core -Pbenchmarks test-compile exec:exec -Dbenchmark=BuilderBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BuilderBenchmark {
+
+    private static final BuilderFactory<PersonBuilder> PERSONS = implementationFor(PersonBuilder.class).compile();
+    private static final BuilderFactory<PersonBuilder> GENERATED_PERSONS = implementationFor(PersonBuilder.class)
+            .usingEngine(BuilderEngine.GENERATED_CLASS)
+            .compile();
+
+    private final PersonBuilder reusedBuilder = PERSONS.create().withName("John Doe");
+    private int age;
+
+    private static PersonBuilder aPerson() {
+        return implementationFor(PersonBuilder.class).create();
+    }
+
+    @Benchmark
+    public PersonBuilder createBuilder() {
+        return aPerson();
+    }
+
+    @Benchmark
+    public PersonBuilder createBuilderFromFactory() {
+        return PERSONS.create();
+    }
+
+    @Benchmark
+    public PersonBuilder fluentSetters() {
+        return aPerson()
+                .withName("John Doe")
+                .withAge(44)
+                .withSurnames("Johnny", "JD");
+    }
+
+    @Benchmark
+    public Person buildPersonFromFactory() {
+        return PERSONS.create()
+                      .withName("John Doe")
+                      .withAge(44)
+                      .withSurnames("Johnny", "JD")
+                      .build();
+    }
+
+    @Benchmark
+    public Person buildPersonWithDefaultMethod() {
+        return PERSONS.create()
+                      .withManyValues("John Doe", 44)
+                      .build();
+    }
+
+    @Benchmark
+    public Person rebuildFromReusedBuilder() {
+        return reusedBuilder.withAge(age++).build();
+    }
+
+    @Benchmark
+    public Person buildPersonFromGeneratedClass() {
+        return GENERATED_PERSONS.create()
+                                .withName("John Doe")
+                                .withAge(44)
+                                .withSurnames("Johnny", "JD")
+                                .build();
+    }
+
+    @Benchmark
+    public Person buildPerson() {
+        return aPerson()
+                .withName("John Doe")
+                .withAge(44)
+                .withSurnames("Johnny", "JD")
+                .build();
+    }
+}
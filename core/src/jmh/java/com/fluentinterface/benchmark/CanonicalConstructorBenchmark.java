@@ -0,0 +1,52 @@
+package com.fluentinterface.benchmark;
+
+import com.fluentinterface.BuilderFactory;
+import com.fluentinterface.proxy.BuilderEngine;
+import com.fluentinterface.proxy.BuilderState;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.fluentinterface.ReflectionBuilder.implementationFor;
+
+/**
+ * Compares building an immutable class through its canonical constructor with instantiating it empty and writing its
+ * final fields one at a time.
+ * <p>
+ * Run with: {@code mvn -pl core -Pbenchmarks test-compile exec:exec -Dbenchmark=CanonicalConstructorBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CanonicalConstructorBenchmark {
+
+    private static final BuilderFactory<QuoteBuilder> CONSTRUCTED_QUOTES = implementationFor(QuoteBuilder.class)
+            .usingEngine(BuilderEngine.GENERATED_CLASS)
+            .compile();
+    private static final BuilderFactory<QuoteBuilder> FIELD_WRITTEN_QUOTES = implementationFor(QuoteBuilder.class)
+            .usingEngine(BuilderEngine.GENERATED_CLASS)
+            .usingFieldsDirectly()
+            .usingInstantiator((BuilderState state) -> new Quote())
+            .compile();
+
+    @Benchmark
+    public Quote buildThroughCanonicalConstructor() {
+        return buildQuote(CONSTRUCTED_QUOTES.create());
+    }
+
+    @Benchmark
+    public Quote buildByWritingFinalFields() {
+        return buildQuote(FIELD_WRITTEN_QUOTES.create());
+    }
+
+    private static Quote buildQuote(QuoteBuilder builder) {
+        return builder.withSymbol("ACME")
+                      .withBid(101.25)
+                      .withAsk(101.5)
+                      .withSize(300)
+                      .build();
+    }
+}
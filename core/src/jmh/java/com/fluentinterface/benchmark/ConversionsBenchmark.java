@@ -0,0 +1,48 @@
+package com.fluentinterface.benchmark;
+
+import com.fluentinterface.convert.Conversions;
+import com.fluentinterface.convert.Converter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the conversions per second of a {@link Converter} using the default {@link Conversions}: converting a
+ * string, a number and {@code null}, and looking up a conversion that does not exist.
+ * <p>
+ * Run with: {@code mvn -pl core -Pbenchmarks test-compile exec:exec -Dbenchmark=ConversionsBenchmark}
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConversionsBenchmark {
+
+    private final Converter converter = new Converter(Conversions.defaults());
+
+    private Object text = "42";
+    private Object number = 42L;
+    private Object nothing = null;
+
+    @Benchmark
+    public Object stringToInt() {
+        return converter.convert(text, int.class);
+    }
+
+    @Benchmark
+    public Object longToString() {
+        return converter.convert(number, String.class);
+    }
+
+    @Benchmark
+    public Object nullToInt() {
+        return converter.convert(nothing, int.class);
+    }
+
+    @Benchmark
+    public Object noConversion() {
+        return converter.convert(number, Integer.class);
+    }
+}
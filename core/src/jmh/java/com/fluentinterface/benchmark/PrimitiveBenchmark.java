@@ -0,0 +1,68 @@
+package com.fluentinterface.benchmark;
+
+import com.fluentinterface.BuilderFactory;
+import com.fluentinterface.proxy.BuilderEngine;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.fluentinterface.ReflectionBuilder.implementationFor;
+
+/**
+ * Measures the cost, and above all the allocations, of setting primitive properties. Values are chosen outside of the
+ * range of the boxing caches, so that every box is a new allocation.
+ * <p>
+ * Allocations are reported by the {@code gc} profiler as {@code gc.alloc.rate.norm}, in bytes per operation: setting
+ * primitive properties on a generated builder should not allocate at all.
+ * <p>
+ * Run with: {@code mvn -pl core -Pbenchmarks test-compile exec:exec -Dbenchmark=PrimitiveBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrimitiveBenchmark {
+
+    private static final BuilderFactory<TickBuilder> PROXY_TICKS = implementationFor(TickBuilder.class)
+            .usingEngine(BuilderEngine.DYNAMIC_PROXY)
+            .compile();
+    private static final BuilderFactory<TickBuilder> GENERATED_TICKS = implementationFor(TickBuilder.class)
+            .usingEngine(BuilderEngine.GENERATED_CLASS)
+            .compile();
+
+    private final TickBuilder proxyBuilder = PROXY_TICKS.create();
+    private final TickBuilder generatedBuilder = GENERATED_TICKS.create();
+
+    private long time = 1534032000000L;
+
+    @Benchmark
+    public TickBuilder setPrimitivesOnProxy() {
+        return setPrimitives(proxyBuilder);
+    }
+
+    @Benchmark
+    public TickBuilder setPrimitivesOnGeneratedClass() {
+        return setPrimitives(generatedBuilder);
+    }
+
+    @Benchmark
+    public Tick buildTickFromProxy() {
+        return setPrimitives(proxyBuilder).build();
+    }
+
+    @Benchmark
+    public Tick buildTickFromGeneratedClass() {
+        return setPrimitives(generatedBuilder).build();
+    }
+
+    private TickBuilder setPrimitives(TickBuilder builder) {
+        return builder.withTime(time++)
+                      .withBid(101.25)
+                      .withAsk(101.5)
+                      .withBidSize(30_000)
+                      .withAskSize(12_000)
+                      .withVenue(1_000);
+    }
+}
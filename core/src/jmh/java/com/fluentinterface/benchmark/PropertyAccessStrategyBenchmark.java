@@ -0,0 +1,80 @@
+package com.fluentinterface.benchmark;
+
+import com.fluentinterface.BuilderFactory;
+import com.fluentinterface.examples.Person;
+import com.fluentinterface.examples.PersonBuilder;
+import com.fluentinterface.examples.contrib.Employee;
+import com.fluentinterface.proxy.PropertyAccessStrategy;
+import com.fluentinterface.proxy.PropertyTarget;
+import com.fluentinterface.proxy.internal.FieldPropertyAccessStrategy;
+import com.fluentinterface.proxy.internal.HybridPropertyAccessStrategy;
+import com.fluentinterface.proxy.internal.LambdaSetterPropertyAccessStrategy;
+import com.fluentinterface.proxy.internal.SetterPropertyAccessStrategy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.fluentinterface.ReflectionBuilder.implementationFor;
+
+/**
+ * Compares the property access strategies, both on their own (resolving the type of an inherited property and setting
+ * the properties of an existing bean) and when used by builders.
+ * <p>
+ * Run with: {@code mvn -pl core -Pbenchmarks test-compile exec:exec -Dbenchmark=PropertyAccessStrategyBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PropertyAccessStrategyBenchmark {
+
+    @Param({"setters", "fields", "lambdaSetters", "settersOrFields"})
+    public String strategyName;
+
+    private PropertyAccessStrategy strategy;
+    private BuilderFactory<PersonBuilder> persons;
+    private final Person person = new Person();
+
+    @Setup
+    public void setUp() {
+        switch (strategyName) {
+            case "setters":
+                strategy = new SetterPropertyAccessStrategy();
+                break;
+            case "fields":
+                strategy = new FieldPropertyAccessStrategy();
+                break;
+            case "settersOrFields":
+                strategy = new HybridPropertyAccessStrategy();
+                break;
+            default:
+                strategy = new LambdaSetterPropertyAccessStrategy();
+        }
+        persons = implementationFor(PersonBuilder.class).usingAttributeAccessStrategy(strategy).compile();
+    }
+
+    @Benchmark
+    public Class getInheritedPropertyType() {
+        return strategy.getPropertyType(Employee.class, "id");
+    }
+
+    @Benchmark
+    public Person setProperties() throws Exception {
+        PropertyTarget target = strategy.targetFor(person);
+        target.setProperty("name", "John Doe");
+        target.setProperty("age", 44);
+        target.setProperty("partner", person);
+        return person;
+    }
+
+    @Benchmark
+    public Person buildPerson() {
+        return persons.create()
+                      .withName("John Doe")
+                      .withAge(44)
+                      .withPartner(null)
+                      .build();
+    }
+}
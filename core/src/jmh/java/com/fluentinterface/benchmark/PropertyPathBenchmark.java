@@ -0,0 +1,54 @@
+package com.fluentinterface.benchmark;
+
+import com.fluentinterface.beans.ObjectWrapper;
+import com.fluentinterface.beans.PropertyPath;
+import com.fluentinterface.examples.Person;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares evaluating a nested property pattern with {@link ObjectWrapper}, from its string and from its compiled
+ * {@link PropertyPath}.
+ * <p>
+ * Run with: {@code mvn -pl core -Pbenchmarks test-compile exec:exec -Dbenchmark=PropertyPathBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PropertyPathBenchmark {
+
+    private static final String PATTERN = "partner.friends[1].name";
+
+    private final PropertyPath path = PropertyPath.compile(Person.class, PATTERN);
+    private ObjectWrapper wrapper;
+
+    @Setup
+    public void setUp() {
+        List<Person> friends = new ArrayList<>();
+        friends.add(new Person("Jane", 42));
+        friends.add(new Person("Jack", 43));
+        Person partner = new Person("Mary", friends);
+        wrapper = new ObjectWrapper(new Person(partner, 44));
+    }
+
+    @Benchmark
+    public Object getValueFromPattern() {
+        return wrapper.getValue(PATTERN);
+    }
+
+    @Benchmark
+    public Object getValueFromPath() {
+        return wrapper.getValue(path);
+    }
+
+    @Benchmark
+    public void setValueFromPath() {
+        wrapper.setValue(path, "Jack");
+    }
+}
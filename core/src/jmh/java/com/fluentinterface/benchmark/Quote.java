@@ -0,0 +1,41 @@
+package com.fluentinterface.benchmark;
+
+import com.fluentinterface.annotation.CanonicalConstructor;
+
+/**
+ * An immutable quote, built through its canonical constructor.
+ */
+public class Quote {
+    private final String symbol;
+    private final double bid;
+    private final double ask;
+    private final long size;
+
+    Quote() {
+        this(null, 0, 0, 0);
+    }
+
+    @CanonicalConstructor({"symbol", "bid", "ask", "size"})
+    public Quote(String symbol, double bid, double ask, long size) {
+        this.symbol = symbol;
+        this.bid = bid;
+        this.ask = ask;
+        this.size = size;
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public double getBid() {
+        return bid;
+    }
+
+    public double getAsk() {
+        return ask;
+    }
+
+    public long getSize() {
+        return size;
+    }
+}
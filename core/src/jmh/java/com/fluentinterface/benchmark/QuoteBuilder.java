@@ -0,0 +1,14 @@
+package com.fluentinterface.benchmark;
+
+import com.fluentinterface.builder.Builder;
+
+public interface QuoteBuilder extends Builder<Quote> {
+
+    QuoteBuilder withSymbol(String symbol);
+
+    QuoteBuilder withBid(double bid);
+
+    QuoteBuilder withAsk(double ask);
+
+    QuoteBuilder withSize(long size);
+}
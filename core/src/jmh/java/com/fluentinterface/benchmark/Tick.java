@@ -0,0 +1,61 @@
+package com.fluentinterface.benchmark;
+
+/**
+ * A market tick: a bean made of primitive properties only.
+ */
+public class Tick {
+    private long time;
+    private double bid;
+    private double ask;
+    private long bidSize;
+    private long askSize;
+    private int venue;
+
+    public long getTime() {
+        return time;
+    }
+
+    public void setTime(long time) {
+        this.time = time;
+    }
+
+    public double getBid() {
+        return bid;
+    }
+
+    public void setBid(double bid) {
+        this.bid = bid;
+    }
+
+    public double getAsk() {
+        return ask;
+    }
+
+    public void setAsk(double ask) {
+        this.ask = ask;
+    }
+
+    public long getBidSize() {
+        return bidSize;
+    }
+
+    public void setBidSize(long bidSize) {
+        this.bidSize = bidSize;
+    }
+
+    public long getAskSize() {
+        return askSize;
+    }
+
+    public void setAskSize(long askSize) {
+        this.askSize = askSize;
+    }
+
+    public int getVenue() {
+        return venue;
+    }
+
+    public void setVenue(int venue) {
+        this.venue = venue;
+    }
+}
@@ -0,0 +1,18 @@
+package com.fluentinterface.benchmark;
+
+import com.fluentinterface.builder.Builder;
+
+public interface TickBuilder extends Builder<Tick> {
+
+    TickBuilder withTime(long time);
+
+    TickBuilder withBid(double bid);
+
+    TickBuilder withAsk(double ask);
+
+    TickBuilder withBidSize(long bidSize);
+
+    TickBuilder withAskSize(long askSize);
+
+    TickBuilder withVenue(int venue);
+}
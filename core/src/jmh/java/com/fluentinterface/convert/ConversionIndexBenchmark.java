@@ -0,0 +1,72 @@
+package com.fluentinterface.convert;
+
+import com.fluentinterface.convert.Conversions.ConverterEntry;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.fluentinterface.convert.PathMatcher.match;
+import static com.fluentinterface.convert.TypeMatcher.is;
+
+/**
+ * Compares resolving a conversion that is not cached yet by scanning the registered conversions in order, as done
+ * before conversions were indexed, and through a {@link ConversionIndex}, for growing numbers of conversions. The
+ * conversion looked up is registered last, after conversions of other types.
+ * <p>
+ * Lives in the package of {@link ConversionIndex} to call it directly, rather than through the cache of
+ * {@link Conversions}.
+ * <p>
+ * Run with: {@code mvn -pl core -Pbenchmarks test-compile exec:exec -Dbenchmark=ConversionIndexBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConversionIndexBenchmark {
+
+    private static final Class<?>[] COMPONENT_TYPES = {int.class, long.class, String.class, Object.class};
+
+    @Param({"10", "100", "1000"})
+    private int conversions;
+
+    private List<ConverterEntry> converters;
+    private ConversionIndex index;
+
+    @Setup
+    public void setUp() {
+        converters = new ArrayList<>();
+        Conversions.Convert<Object, Object> convert = (v, t, c) -> v;
+        for (int i = 0; i < conversions; i++) {
+            converters.add(new ConverterEntry(match(is(Long.class), is(arrayOf(i))), convert));
+        }
+        converters.add(new ConverterEntry(match(is(String.class), is(Integer.class, int.class)), convert));
+
+        index = new ConversionIndex(converters);
+    }
+
+    /**
+     * @return a distinct array type for each index, by number of dimensions and type of component.
+     */
+    private static Class<?> arrayOf(int i) {
+        Class<?> type = COMPONENT_TYPES[i % COMPONENT_TYPES.length];
+        for (int dimensions = 0; dimensions <= i / COMPONENT_TYPES.length; dimensions++) {
+            type = Array.newInstance(type, 0).getClass();
+        }
+        return type;
+    }
+
+    @Benchmark
+    public Object scan() {
+        return Conversions.scan(converters, String.class, int.class);
+    }
+
+    @Benchmark
+    public Object indexed() {
+        return index.find(String.class, int.class);
+    }
+}
@@ -0,0 +1,27 @@
+package com.fluentinterface;
+
+/**
+ * Creates builder instances from a configuration that was resolved once, using {@link ReflectionBuilder#compile()}.
+ * <p>
+ * Factories are immutable and thread-safe: they are meant to be kept around (ex: in a static field) and used every
+ * time a new builder is needed.
+ * <p>
+ * Ex:
+ * <pre>
+ * private static final BuilderFactory&lt;PersonBuilder&gt; PERSONS =
+ *         ReflectionBuilder.implementationFor(PersonBuilder.class).compile();
+ *
+ * public static PersonBuilder aPerson() {
+ *     return PERSONS.create();
+ * }
+ * </pre>
+ *
+ * @param <B> the builder interface
+ */
+public interface BuilderFactory<B> {
+
+    /**
+     * @return a new builder instance, independent from all previously created builders.
+     */
+    B create();
+}
@@ -0,0 +1,53 @@
+package com.fluentinterface;
+
+import java.lang.reflect.Field;
+import java.util.Optional;
+
+/**
+ * Looks up the builder implementations generated at compile time by the {@code fluent-interface-proxy-processor}
+ * annotation processor.
+ * <p>
+ * The implementation of {@code com.acme.PersonBuilder} is named {@code com.acme.FluentBuilder_PersonBuilder} (nested
+ * interfaces have the names of their enclosing types joined by underscores) and exposes its {@link BuilderFactory} as
+ * a static {@code FACTORY} field.
+ */
+final class CompiledBuilders {
+
+    private static final String CLASS_NAME_PREFIX = "FluentBuilder_";
+    private static final String FACTORY_FIELD = "FACTORY";
+
+    private static final ClassValue<Optional<BuilderFactory<?>>> factories = new ClassValue<Optional<BuilderFactory<?>>>() {
+        @Override
+        protected Optional<BuilderFactory<?>> computeValue(Class<?> builderInterface) {
+            return Optional.ofNullable(lookup(builderInterface));
+        }
+    };
+
+    private CompiledBuilders() {}
+
+    /**
+     * @return the factory of the generated implementation of the builder interface, or {@code null} if none was
+     * generated.
+     */
+    @SuppressWarnings("unchecked")
+    static <B> BuilderFactory<B> find(Class<B> builderInterface) {
+        return (BuilderFactory<B>) factories.get(builderInterface).orElse(null);
+    }
+
+    private static BuilderFactory<?> lookup(Class<?> builderInterface) {
+        try {
+            Class<?> generated = Class.forName(generatedClassName(builderInterface), true, builderInterface.getClassLoader());
+            Field factory = generated.getField(FACTORY_FIELD);
+            return factory.get(null) instanceof BuilderFactory ? (BuilderFactory<?>) factory.get(null) : null;
+        } catch (ClassNotFoundException | NoSuchFieldException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static String generatedClassName(Class<?> builderInterface) {
+        String name = builderInterface.getName();
+        int packageEnd = name.lastIndexOf('.');
+
+        return name.substring(0, packageEnd + 1) + CLASS_NAME_PREFIX + name.substring(packageEnd + 1).replace('$', '_');
+    }
+}
@@ -0,0 +1,232 @@
+package com.fluentinterface;
+
+import com.fluentinterface.builder.Builder;
+import com.fluentinterface.convert.Conversions;
+import com.fluentinterface.proxy.BuilderDelegate;
+import com.fluentinterface.proxy.BuilderEngine;
+import com.fluentinterface.proxy.DefaultBuilderDelegate;
+import com.fluentinterface.proxy.Instantiator;
+import com.fluentinterface.proxy.PropertyAccessStrategy;
+import com.fluentinterface.proxy.TierListener;
+import com.fluentinterface.proxy.internal.AbstractBuilderFactory;
+import com.fluentinterface.proxy.internal.HybridPropertyAccessStrategy;
+import com.fluentinterface.proxy.internal.GeneratedBuilderFactory;
+import com.fluentinterface.proxy.internal.LambdaSetterPropertyAccessStrategy;
+import com.fluentinterface.proxy.internal.ProxyBuilderFactory;
+import com.fluentinterface.proxy.internal.TieredBuilderFactory;
+
+public class ReflectionBuilder<B> {
+
+    private static final PropertyAccessStrategy SETTERS_ACCESS_STRATEGY = AbstractBuilderFactory.SETTERS_ACCESS_STRATEGY;
+    private static final PropertyAccessStrategy FIELDS_ACCESS_STRATEGY = AbstractBuilderFactory.FIELDS_ACCESS_STRATEGY;
+    private static final PropertyAccessStrategy LAMBDA_SETTERS_ACCESS_STRATEGY =
+            AbstractBuilderFactory.LAMBDA_SETTERS_ACCESS_STRATEGY;
+    private static final PropertyAccessStrategy SETTERS_OR_FIELDS_ACCESS_STRATEGY =
+            AbstractBuilderFactory.SETTERS_OR_FIELDS_ACCESS_STRATEGY;
+
+    private static BuilderDelegate defaultBuilderDelegate = AbstractBuilderFactory.DEFAULT_BUILDER_DELEGATE;
+
+    private BuilderDelegate<? super B> builderDelegate;
+    private Class<B> builderInterface;
+    private Class<?> builtClass = null;
+    private PropertyAccessStrategy propertyAccessStrategy;
+    private Instantiator instantiator;
+    private Conversions conversions;
+    private BuilderEngine engine;
+    private long tierThreshold = TieredBuilderFactory.DEFAULT_THRESHOLD;
+    private TierListener tierListener;
+    private boolean strict;
+
+    @SuppressWarnings("unchecked")
+    private ReflectionBuilder(Class<B> builderInterface) {
+        if (!builderInterface.isInterface()) {
+            throw new IllegalArgumentException(String.format(
+                    "Can only create dynamic builder for interfaces. [%s] is not an interface.", builderInterface));
+        }
+
+        this.builderInterface = builderInterface;
+        this.builderDelegate = defaultBuilderDelegate;
+        this.propertyAccessStrategy = SETTERS_ACCESS_STRATEGY;
+    }
+
+    public static void setDefaultBuilderDelegate(BuilderDelegate delegate) {
+        defaultBuilderDelegate = delegate;
+    }
+
+    public static <T> ReflectionBuilder<T> implementationFor(Class<T> builderInterface) {
+        return new ReflectionBuilder<>(builderInterface);
+    }
+
+    public ReflectionBuilder<B> builds(Class<?> objectsOfType) {
+        this.builtClass = objectsOfType;
+        return this;
+    }
+
+    public ReflectionBuilder<B> withDelegate(BuilderDelegate<? super B> builderDelegate) {
+        this.builderDelegate = builderDelegate;
+        return this;
+    }
+
+    public ReflectionBuilder<B> usingAttributeAccessStrategy(PropertyAccessStrategy strategy) {
+        this.propertyAccessStrategy = strategy;
+        return this;
+    }
+
+    public ReflectionBuilder<B> usingFieldsDirectly() {
+        this.propertyAccessStrategy = FIELDS_ACCESS_STRATEGY;
+        return this;
+    }
+
+    /**
+     * Uses public setters, like the default strategy, but calls them through accessors generated once per class and
+     * property rather than through reflection (see {@link LambdaSetterPropertyAccessStrategy}).
+     */
+    public ReflectionBuilder<B> usingLambdaSetters() {
+        this.propertyAccessStrategy = LAMBDA_SETTERS_ACCESS_STRATEGY;
+        return this;
+    }
+
+    /**
+     * Uses the public setter of each property when it has one, like {@link #usingLambdaSetters()}, and its field
+     * otherwise, like {@link #usingFieldsDirectly()} (see {@link HybridPropertyAccessStrategy}).
+     */
+    public ReflectionBuilder<B> usingSettersOrFields() {
+        this.propertyAccessStrategy = SETTERS_OR_FIELDS_ACCESS_STRATEGY;
+        return this;
+    }
+
+    public ReflectionBuilder<B> usingInstantiator(Instantiator instantiator) {
+        this.instantiator = instantiator;
+        return this;
+    }
+
+    /**
+     * Converts the values passed to setters and constructing methods with the provided conversions rather than the
+     * default ones. The conversions are {@link Conversions#freeze() frozen} when the builder is compiled, and shared by
+     * all the builders of this interface configured with the same instance, so they are registered once rather than
+     * on every conversion. To complement the defaults, combine them with
+     * {@code Conversions.of(custom, Conversions.frozenDefaults())}.
+     */
+    public ReflectionBuilder<B> usingConversions(Conversions conversions) {
+        this.conversions = conversions;
+        return this;
+    }
+
+    /**
+     * Selects how the builder interface is implemented. By default, the implementation generated at compile time by the
+     * {@code fluent-interface-proxy-processor} annotation processor is used when there is one and the builder is not
+     * customized, otherwise {@link BuilderEngine#DYNAMIC_PROXY} is used.
+     */
+    public ReflectionBuilder<B> usingEngine(BuilderEngine engine) {
+        this.engine = engine;
+        return this;
+    }
+
+    /**
+     * Selects the {@link BuilderEngine#TIERED tiered engine}: builders are dynamic proxies until the builders of this
+     * interface (with the same configuration) have built {@code threshold} objects, then instances of a generated
+     * class.
+     *
+     * @param threshold number of objects built by dynamic proxies before switching to a generated class. Defaults to
+     *                  {@link TieredBuilderFactory#DEFAULT_THRESHOLD} when using {@code usingEngine(TIERED)}.
+     * @param listener  notified when switching to the generated class, may be {@code null}.
+     */
+    public ReflectionBuilder<B> usingTieredEngine(long threshold, TierListener listener) {
+        this.engine = BuilderEngine.TIERED;
+        this.tierThreshold = threshold;
+        this.tierListener = listener;
+        return this;
+    }
+
+    /**
+     * Makes the builder fail on creation when any of the builder interface methods cannot be handled (for instance
+     * setters of unknown properties), instead of failing when such a method is first invoked.
+     */
+    public ReflectionBuilder<B> strict() {
+        this.strict = true;
+        return this;
+    }
+
+    public Class<?> getBuiltClass() {
+        if (builtClass != null) {
+            return builtClass;
+        }
+
+        builtClass = builderDelegate.getClassBuiltBy(builderInterface);
+
+        if (builtClass == null) {
+            throw new IllegalStateException(String.format(
+                    "Could not imply class being built by builder [%s]. " +
+                            "If the interface does not extend [%s], you must explicitly set the type of object being built using the 'builds(class)' method.",
+                    builderInterface, Builder.class
+            ));
+        }
+
+        return builtClass;
+    }
+
+    /**
+     * Resolves this builder's configuration once and returns a factory that can be used to create any number of
+     * builders cheaply. Prefer this over {@link #create()} when many builders of the same type are needed.
+     * <p>
+     * Unless a custom instantiator or tier threshold or listener is used, the factory is shared by all the builders of
+     * this interface with the same engine, delegate, strategy and conversions, for as long as they are in use.
+     *
+     * @return an immutable, thread-safe factory of builders.
+     */
+    public BuilderFactory<B> compile() {
+        if (engine == null && hasDefaultConfiguration()) {
+            BuilderFactory<B> compiled = CompiledBuilders.find(builderInterface);
+            if (compiled != null) {
+                return compiled;
+            }
+        }
+
+        AbstractBuilderFactory<B> factory;
+        if (instantiator == null && tierThreshold == TieredBuilderFactory.DEFAULT_THRESHOLD && tierListener == null) {
+            factory = AbstractBuilderFactory.shared(builderInterface, getBuiltClass(), builderDelegate,
+                                                    propertyAccessStrategy, conversions,
+                                                    engine != null ? engine : BuilderEngine.DYNAMIC_PROXY, this::newFactory);
+        } else {
+            factory = newFactory();
+        }
+        if (strict) {
+            factory.verifyAllMethodsResolved();
+        }
+        return factory;
+    }
+
+    private AbstractBuilderFactory<B> newFactory() {
+        if (engine == BuilderEngine.GENERATED_CLASS) {
+            return new GeneratedBuilderFactory<>(builderInterface, getBuiltClass(),
+                                                 builderDelegate, propertyAccessStrategy, instantiator, conversions);
+        } else if (engine == BuilderEngine.TIERED) {
+            return new TieredBuilderFactory<>(builderInterface, getBuiltClass(),
+                                              builderDelegate, propertyAccessStrategy, instantiator, conversions,
+                                              tierThreshold, tierListener);
+        } else {
+            return new ProxyBuilderFactory<>(builderInterface, getBuiltClass(),
+                                             builderDelegate, propertyAccessStrategy, instantiator, conversions);
+        }
+    }
+
+    /**
+     * Builders generated at compile time assume the default configuration.
+     */
+    private boolean hasDefaultConfiguration() {
+        return builderDelegate.getClass() == DefaultBuilderDelegate.class
+                && propertyAccessStrategy == SETTERS_ACCESS_STRATEGY
+                && instantiator == null
+                && conversions == null
+                && (builtClass == null || builtClass == builderDelegate.getClassBuiltBy(builderInterface));
+    }
+
+    /**
+     * Creates a builder with the factory returned by {@link #compile()}. The factory of a configuration with a custom
+     * instantiator or tier threshold or listener is created again on every call: compile it once instead.
+     */
+    public B create() {
+        return compile().create();
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.fluentinterface.annotation;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.CONSTRUCTOR;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Annotation that can be used to mark the constructor of a built class that builders should call with the values of all
+ * the properties, instead of calling an empty constructor and setting properties one at a time. This is useful for
+ * immutable classes, whose properties can only be set when constructed.
+ * <p>
+ * The canonical constructor of Java records is used the same way, without needing this annotation.
+ */
+@Retention(value = RUNTIME)
+@Target(value = {CONSTRUCTOR})
+public @interface CanonicalConstructor {
+    /**
+     * @return the names of the properties passed as the parameters of the annotated constructor, in order.
+     * If not provided, the names of the parameters are used instead, which requires the built class to be compiled
+     * with the {@code -parameters} option.
+     */
+    String[] value() default {};
+}
@@ -16,6 +16,10 @@ public @interface Sets {
     /**
      * @return the name of the target property to set.
      * If not provided, the library will attempt to guess the property from the annotated method's name instead.
+     * <p>
+     * Nested, indexed and mapped properties can be set with the patterns supported by
+     * {@link com.fluentinterface.beans.ObjectWrapper}, such as {@code "shipping.address.city"}: the objects traversed
+     * are read and set through their public getters and setters, and instanced when {@code null}.
      */
     String property() default "";
 
@@ -21,6 +21,8 @@ import com.fluentinterface.beans.reflect.ReflectionException;
 
 import java.lang.reflect.Array;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -69,9 +71,16 @@ public class ObjectWrapper {
     private Bean<?> bean;
     private Object object;
     private boolean isAutoGrowing = true;
+    private boolean isAmortizedGrowing = false;
     private boolean isAutoInstancing = true;
     private boolean isOutOfBoundsSafety = true;
 
+    /**
+     * Arrays of the wrapped object grown beyond their last set index by amortized growing, until trimmed or until
+     * another object is wrapped.
+     */
+    private Map<Object, GrownArray> grownArrays;
+
     /**
      * Wraps an object.
      *
@@ -85,6 +94,9 @@ public class ObjectWrapper {
     /**
      * Changes, at any time, the wrapped object with a new object.
      *
+     * <p>Arrays of the previous object grown by the Amortized-Growing option and
+     * not trimmed yet are forgotten: they are left as they are by {@link #trimToSize()}.
+     *
      * @param obj the new object to wrap
      * @throws IllegalArgumentException if the obj parameter is {@code null}
      */
@@ -95,6 +107,7 @@ public class ObjectWrapper {
 
         this.object = obj;
         this.bean = Bean.forClass(obj.getClass());
+        this.grownArrays = null;
     }
 
     /**
@@ -124,6 +137,59 @@ public class ObjectWrapper {
         this.isAutoGrowing = isAutoGrowing;
     }
 
+    /**
+     * Changes the status of the Amortized-Growing option.
+     *
+     * <p>Default: disabled. If enabled, auto-growing grows an {@code array} by
+     * half of its length (or up to the requested index, if larger) instead of
+     * exactly up to the requested index, so that filling an array sequentially
+     * copies and sets it a logarithmic number of times rather than at every index.
+     *
+     * <p>Grown arrays are longer than their last set index until {@link #trimToSize()}
+     * is called: their extra positions hold {@code null} (or the default value of their
+     * primitive type), and are visible to anyone reading the property in the meantime.
+     *
+     * <p>Affected:
+     * <p>- {@link ObjectWrapper#setValue(String, Object)}
+     * <p>- {@link ObjectWrapper#setIndexedValue(String, int, Object)}
+     * <p>- {@link ObjectWrapper#setIndexedValue(Property, int, Object)}
+     *
+     * @param isAmortizedGrowing the new isAmortizedGrowing flag option value
+     * @see #trimToSize()
+     */
+    public void setAmortizedGrowing(boolean isAmortizedGrowing) {
+        this.isAmortizedGrowing = isAmortizedGrowing;
+    }
+
+    /**
+     * Trims the arrays of the wrapped object grown by the Amortized-Growing option since
+     * the last call, or since the object was wrapped, setting each of them back to its
+     * property with the length of its last set index.
+     *
+     * <p>Arrays that were replaced in their property since they were grown are left as they are.
+     *
+     * @throws ReflectionException if a reflection error occurs
+     * @see #setAmortizedGrowing(boolean)
+     */
+    public void trimToSize() {
+        if (grownArrays == null) {
+            return;
+        }
+
+        for (Map.Entry<Object, GrownArray> entry : grownArrays.entrySet()) {
+            Object array = entry.getKey();
+            GrownArray grown = entry.getValue();
+
+            if (grown.property.get(grown.obj) == array && grown.length < Array.getLength(array)) {
+                Object trimmedArray = Array.newInstance(array.getClass().getComponentType(), grown.length);
+                System.arraycopy(array, 0, trimmedArray, 0, grown.length);
+                grown.property.set(grown.obj, trimmedArray);
+            }
+        }
+
+        grownArrays = null;
+    }
+
     /**
      * Changes the status of the Auto-Instancing option.
      *
@@ -193,7 +259,34 @@ public class ObjectWrapper {
      * @throws IndexOutOfBoundsException if the specified index is outside the valid range for the underlying property
      */
     public Object getValue(String propertyPattern) {
-        return getValue(object, propertyPattern, this);
+        if (propertyPattern == null) {
+            throw new IllegalArgumentException("Cannot get the value from a property with a 'null' propertyPattern.");
+        }
+
+        return getValue(object, PropertyPath.compile(object.getClass(), propertyPattern), this);
+    }
+
+    /**
+     * Returns the value of the simple, indexed or mapped property located by the given compiled pattern.
+     *
+     * <p> Behaves as {@link #getValue(String)}, without parsing the pattern again.
+     *
+     * @param propertyPath the compiled pattern to traverse, cannot be {@code null}
+     * @return the simple, indexed or mapped property value
+     * @throws ReflectionException       if a reflection error occurs
+     * @throws IllegalArgumentException  if the propertyPath parameter is {@code null}
+     * @throws IllegalArgumentException  if the propertyPath parameter contains an invalid, not parsable, index integer
+     * @throws NullPointerException      if the propertyPath parameter contains a nested property with a {@code null} value
+     * @throws NullPointerException      if the propertyPath parameter contains a nested not-existent property
+     * @throws IndexOutOfBoundsException if the specified index is outside the valid range for the underlying property
+     * @see PropertyPath#compile(Class, String)
+     */
+    public Object getValue(PropertyPath propertyPath) {
+        if (propertyPath == null) {
+            throw new IllegalArgumentException("Cannot get the value from a property with a 'null' propertyPath.");
+        }
+
+        return getValue(object, propertyPath, this);
     }
 
     /**
@@ -300,7 +393,97 @@ public class ObjectWrapper {
      * @throws IndexOutOfBoundsException if the specified index is outside the valid range for the underlying property
      */
     public void setValue(String propertyPattern, Object value) {
-        setValue(object, propertyPattern, value, this);
+        if (propertyPattern == null) {
+            throw new IllegalArgumentException("Cannot set a new value to a property with a 'null' propertyPattern.");
+        }
+
+        setValue(object, PropertyPath.compile(object.getClass(), propertyPattern), value, this);
+    }
+
+    /**
+     * Sets the value of the simple, indexed or mapped property located by the
+     * given compiled pattern, in the wrapped object.
+     *
+     * <p> Behaves as {@link #setValue(String, Object)}, without parsing the pattern again.
+     *
+     * @param propertyPath the compiled pattern to traverse, cannot be {@code null}
+     * @param value        the value to set, can be {@code null}
+     * @throws ReflectionException       if a reflection error occurs
+     * @throws IllegalArgumentException  if the propertyPath parameter is {@code null}
+     * @throws IllegalArgumentException  if the propertyPath parameter contains an invalid, not parsable, index integer
+     * @throws NullPointerException      if the propertyPath parameter contains a nested property with a {@code null} value
+     * @throws NullPointerException      if the propertyPath parameter contains a nested not-existent property
+     * @throws IndexOutOfBoundsException if the specified index is outside the valid range for the underlying property
+     * @see PropertyPath#compile(Class, String)
+     */
+    public void setValue(PropertyPath propertyPath, Object value) {
+        if (propertyPath == null) {
+            throw new IllegalArgumentException("Cannot set a new value to a property with a 'null' propertyPath.");
+        }
+
+        setValue(object, propertyPath, value, this);
+    }
+
+    /**
+     * Sets the values of several simple, indexed or mapped properties located by the
+     * given patterns, in the wrapped object.
+     *
+     * <p> Behaves as {@link #setValue(String, Object)} called for each entry, except that
+     * the objects traversed by several patterns are read, or auto-instanced, only once.
+     *
+     * @param values the values to set, by pattern, cannot be {@code null}
+     * @throws ReflectionException       if a reflection error occurs
+     * @throws IllegalArgumentException  if the values parameter is {@code null} or has a {@code null} pattern
+     * @throws IllegalArgumentException  if a pattern contains an unclosed indexed\mapped '[]' notation
+     * @throws IllegalArgumentException  if a pattern contains an invalid, not parsable, index integer
+     * @throws NullPointerException      if a pattern contains a nested property with a {@code null} value
+     * @throws NullPointerException      if a pattern contains a nested not-existent property
+     * @throws IndexOutOfBoundsException if the specified index is outside the valid range for the underlying property
+     * @see PathWriter
+     */
+    public void setValues(Map<String, ?> values) {
+        if (values == null) {
+            throw new IllegalArgumentException("Cannot set new values from a 'null' map.");
+        }
+
+        String[] patterns = new String[values.size()];
+        Object[] patternValues = new Object[patterns.length];
+        int i = 0;
+        for (Map.Entry<String, ?> entry : values.entrySet()) {
+            patterns[i] = entry.getKey();
+            patternValues[i++] = entry.getValue();
+        }
+
+        setValues(object, PathWriter.compile(object.getClass(), patterns).roots, patternValues, this);
+    }
+
+    /**
+     * Sets the values of the simple, indexed or mapped properties located by the
+     * patterns of the given writer, in the wrapped object.
+     *
+     * <p> Behaves as {@link #setValues(Map)}, without parsing the patterns again.
+     *
+     * @param pathWriter the compiled patterns to write, cannot be {@code null}
+     * @param values     the values to set, in the order of the patterns of the writer
+     * @throws ReflectionException       if a reflection error occurs
+     * @throws IllegalArgumentException  if the pathWriter parameter is {@code null}
+     * @throws IllegalArgumentException  if the number of values differs from the number of patterns
+     * @throws IllegalArgumentException  if a pattern contains an invalid, not parsable, index integer
+     * @throws NullPointerException      if a pattern contains a nested property with a {@code null} value
+     * @throws NullPointerException      if a pattern contains a nested not-existent property
+     * @throws IndexOutOfBoundsException if the specified index is outside the valid range for the underlying property
+     * @see PathWriter#compile(Class, String...)
+     */
+    public void setValues(PathWriter pathWriter, Object... values) {
+        if (pathWriter == null) {
+            throw new IllegalArgumentException("Cannot set new values with a 'null' pathWriter.");
+        }
+
+        if (values.length != pathWriter.getPatternCount()) {
+            throw new IllegalArgumentException("Cannot set " + values.length + " values with " + pathWriter + ".");
+        }
+
+        setValues(object, pathWriter.roots, values, this);
     }
 
     /**
@@ -449,7 +632,7 @@ public class ObjectWrapper {
      * @throws IllegalArgumentException if the whole string was parsed but '[x]'
      *                                  notation is still "open" without an enclosing ']'
      */
-    private static int indexOfDotOrSquare(String propertyPattern) {
+    static int indexOfDotOrSquare(String propertyPattern) {
         int lenght = propertyPattern.length();
         int result = 0;// nothing found
 
@@ -512,49 +695,47 @@ public class ObjectWrapper {
     }
 
     /*
-     * Internal static version of {@link ObjectWrapper#getValue(String)}.
+     * Internal: Static version of {@link ObjectWrapper#getValue(PropertyPath)}.
      */
-    private static Object getValue(Object obj, String propertyPattern, ObjectWrapper options) {
-        if (propertyPattern == null) {
-            throw new IllegalArgumentException("Cannot get the value from a property with a 'null' propertyPattern.");
+    private static Object getValue(Object obj, PropertyPath propertyPath, ObjectWrapper options) {
+        for (PropertyPath.Segment segment : propertyPath.segments) {
+            obj = getValue(obj, segment, options);
         }
 
+        return obj;
+    }
+
+    /*
+     * Internal: Returns the value of a single simple, indexed or mapped segment of a path.
+     */
+    private static Object getValue(Object obj, PropertyPath.Segment segment, ObjectWrapper options) {
         if (obj == null) {
             // NullPointerException as it is throwed only when traversing a null object (ex: "foo.null.bar")
-            throw new NullPointerException("Cannot get the value of '" + propertyPattern + "' from a 'null' object.");
+            throw new NullPointerException("Cannot get the value of '" + segment.remaining + "' from a 'null' object.");
         }
 
-        // '.' position if positive, '[' inverse position if negative
-        int position = indexOfDotOrSquare(propertyPattern);
+        Property property = getPropertyOrThrow(obj, segment);
 
-        // (propertyPattern.contains("."))
-        if (position > 0) {
-            String leftPattern = propertyPattern.substring(0, position);
-            String rightPattern = propertyPattern.substring(position + 1, propertyPattern.length());
-            Object leftValue = getValue(obj, leftPattern, options);
-
-            return getValue(leftValue, rightPattern, options);
-            // if (propertyPattern.contains("["))
-        } else if (position < 0) {
-            int squarePosition = -position;
-
-            String leftPattern = propertyPattern.substring(0, squarePosition);
-            String indexOrKey = propertyPattern.substring(squarePosition + 1, propertyPattern.length() - 1);// removes ']'
-            Property leftProperty = getPropertyOrThrow(Bean.forClass(obj.getClass()), leftPattern);
-
-            if (Map.class.isAssignableFrom(leftProperty.getType())) {
-                return getMappedValue(obj, leftProperty, indexOrKey);
+        if (segment.isBracketed()) {
+            if (Map.class.isAssignableFrom(property.getType())) {
+                return getMappedValue(obj, property, segment.key);
             } else {
-                try {
-                    return getIndexedValue(obj, leftProperty, Integer.parseInt(indexOrKey), options);
-                } catch (NumberFormatException e) {
-                    throw new IllegalArgumentException("The pattern '" + indexOrKey + "' for the indexed "
-                                                               + leftProperty + " is invalid. Cannot parse the string to a valid integer index.");
-                }
+                return getIndexedValue(obj, property, segment.getIndex(property), options);
             }
         }
 
-        return getSimpleValue(obj, getPropertyOrThrow(Bean.forClass(obj.getClass()), propertyPattern));
+        return getSimpleValue(obj, property);
+    }
+
+    /**
+     * Internal: Returns the property of a segment of a path in the given object.
+     *
+     * @throws NullPointerException if the object does not have the property of the segment
+     */
+    private static Property getPropertyOrThrow(Object obj, PropertyPath.Segment segment) {
+        Property property = segment.getProperty(obj.getClass());
+
+        return (property != null) ? property : getPropertyOrThrow(Bean.forClass(obj.getClass()), segment.name);
     }
 
     /*
@@ -668,64 +849,82 @@ public class ObjectWrapper {
     }
 
     /*
-     * Internal: Static version of {@link ObjectWrapper#setValue(String, Object)}
+     * Internal: Static version of {@link ObjectWrapper#setValue(PropertyPath, Object)}
      */
-    private static void setValue(Object obj, String propertyPattern, Object value, ObjectWrapper options) {
-        if (propertyPattern == null) {
-            throw new IllegalArgumentException("Cannot set a new value to a property with a 'null' propertyPattern.");
+    private static void setValue(Object obj, PropertyPath propertyPath, Object value, ObjectWrapper options) {
+        PropertyPath.Segment[] segments = propertyPath.segments;
+        int last = segments.length - 1;
+
+        for (int i = 0; i < last; i++) {
+            obj = getValueForSetting(obj, segments[i], options);
+        }
+
+        setValue(obj, segments[last], value, options);
+    }
+
+    /*
+     * Internal: Static version of {@link ObjectWrapper#setValues(PathWriter, Object...)}
+     */
+    private static void setValues(Object obj, PathWriter.Node[] nodes, Object[] values, ObjectWrapper options) {
+        for (PathWriter.Node node : nodes) {
+            if (node.valueIndex >= 0) {
+                setValue(obj, node.segment, values[node.valueIndex], options);
+            }
+
+            if (node.children.length > 0) {
+                setValues(getValueForSetting(obj, node.segment, options), node.children, values, options);
+            }
         }
+    }
 
+    /*
+     * Internal: Returns the value of an intermediate segment of a path being set, auto-instancing it if needed.
+     */
+    private static Object getValueForSetting(Object obj, PropertyPath.Segment segment, ObjectWrapper options) {
         if (obj == null) {
             // NullPointerException as it is throwed only when traversing a null object (ex: "foo.null.bar")
-            throw new NullPointerException("Cannot set the value of '" + propertyPattern + "' to a 'null' object.");
+            throw new NullPointerException("Cannot set the value of '" + segment.remaining + "' to a 'null' object.");
         }
 
-        // '.' position if positive, '[' inverse position if negative
-        int position = indexOfDotOrSquare(propertyPattern);
-
-        // (propertyPattern.contains("."))
-        if (position > 0) {
-            String leftPattern = propertyPattern.substring(0, position);
-            String rightPattern = propertyPattern.substring(position + 1, propertyPattern.length());
-            Object leftValue = getValue(obj, leftPattern, options);
+        Object value = getValue(obj, segment, options);
 
-            if (leftValue == null) {
-                Property leftProperty = getPropertyOrThrow(Bean.forClass(obj.getClass()), leftPattern);
+        if (value == null) {
+            Property property = getPropertyOrThrow(Bean.forClass(obj.getClass()), segment.text);
 
-                if (options.isAutoInstancing) {
-                    try {
-                        leftValue = leftProperty.getType().newInstance();
-                    } catch (Exception e) {
-                        throw new ReflectionException("The value of " + leftProperty + " was 'null' in the object "
-                                                              + obj.getClass().getName() + ". An attempt to invoke its 'no-args constructor'" +
-                                                              " was made, but an error occurs.", e);
-                    }
-
-                    leftProperty.set(obj, leftValue);
+            if (options.isAutoInstancing) {
+                try {
+                    value = property.getType().newInstance();
+                } catch (Exception e) {
+                    throw new ReflectionException("The value of " + property + " was 'null' in the object "
+                                                          + obj.getClass().getName() + ". An attempt to invoke its 'no-args constructor'" +
+                                                          " was made, but an error occurs.", e);
                 }
+
+                property.set(obj, value);
             }
+        }
 
-            setValue(leftValue, rightPattern, value, options);
-            // if (propertyPattern.contains("["))
-        } else if (position < 0) {
-            int squarePosition = -position;
+        return value;
+    }
 
-            String leftPattern = propertyPattern.substring(0, squarePosition);
-            String indexOrKey = propertyPattern.substring(squarePosition + 1, propertyPattern.length() - 1);// removes ']'
-            Property leftProperty = getPropertyOrThrow(Bean.forClass(obj.getClass()), leftPattern);
+    /*
+     * Internal: Sets the value of the last segment of a path.
+     */
+    private static void setValue(Object obj, PropertyPath.Segment segment, Object value, ObjectWrapper options) {
+        if (obj == null) {
+            throw new NullPointerException("Cannot set the value of '" + segment.remaining + "' to a 'null' object.");
+        }
 
-            if (leftProperty.getType().isAssignableFrom(Map.class)) {
-                setMappedValue(obj, leftProperty, indexOrKey, value, options);
+        Property property = getPropertyOrThrow(obj, segment);
+
+        if (segment.isBracketed()) {
+            if (property.getType().isAssignableFrom(Map.class)) {
+                setMappedValue(obj, property, segment.key, value, options);
             } else {
-                try {
-                    setIndexedValue(obj, leftProperty, Integer.parseInt(indexOrKey), value, options);
-                } catch (NumberFormatException e) {
-                    throw new IllegalArgumentException("The pattern '" + indexOrKey + "' for the indexed "
-                                                               + leftProperty + " is invalid. Cannot parse the string to a valid integer index.");
-                }
+                setIndexedValue(obj, property, segment.getIndex(property), value, options);
             }
         } else {
-            setSimpleValue(obj, getPropertyOrThrow(Bean.forClass(obj.getClass()), propertyPattern), value);
+            setSimpleValue(obj, property, value);
         }
     }
 
@@ -777,9 +976,10 @@ public class ObjectWrapper {
             int size = list.size();
 
             if (index >= size && options.isAutoGrowing) {
-                for (int i = size; i < index; i++) {
+                if (index > size) {
                     try {
-                        list.add(null);
+                        // pads in bulk, a single copy for array-based lists
+                        list.addAll(Collections.nCopies(index - size, null));
                     } catch (NullPointerException ex) {
                         throw new NullPointerException("The indexed " + property + " has size lower than the requested '"
                                                                + index + "' index. An attempt to autogrowing it, filling with 'null' values, was made, " +
@@ -800,9 +1000,14 @@ public class ObjectWrapper {
             int length = Array.getLength(propertyValue);
 
             if (index >= length && options.isAutoGrowing) {
-                Object biggerArray = Array.newInstance(property.getActualType(), index + 1);
+                int biggerLength = options.isAmortizedGrowing ? Math.max(index + 1, length + (length >> 1)) : index + 1;
+                Object biggerArray = Array.newInstance(property.getActualType(), biggerLength);
                 System.arraycopy(propertyValue, 0, biggerArray, 0, length);
                 property.set(obj, biggerArray);
+
+                if (options.isAmortizedGrowing) {
+                    options.trackGrowth(obj, property, propertyValue, biggerArray);
+                }
                 propertyValue = biggerArray;
             }
 
@@ -812,6 +1017,13 @@ public class ObjectWrapper {
                 throw new IndexOutOfBoundsException("Cannot set a new value to the indexed array " + property
                                                             + " in " + obj.getClass().getSimpleName() + " as the requested '" + index + "' index is unbound.");
             }
+
+            if (options.grownArrays != null) {
+                GrownArray grown = options.grownArrays.get(propertyValue);
+                if (grown != null && grown.length <= index) {
+                    grown.length = index + 1;
+                }
+            }
         } else {
             throw new IllegalArgumentException("Cannot set a new value to a not indexed " + property + ". Only List and array " +
                                                        "types are supported, but " + propertyValue.getClass().getName() + " found.");
@@ -847,4 +1059,35 @@ public class ObjectWrapper {
                                                        + " found.");
         }
     }
+
+    /**
+     * Internal: Remembers an array grown by amortized growing, and the length it had
+     * before, so that it can be trimmed to its last set index.
+     */
+    private void trackGrowth(Object obj, Property property, Object array, Object biggerArray) {
+        if (grownArrays == null) {
+            grownArrays = new IdentityHashMap<Object, GrownArray>();
+        }
+
+        GrownArray grown = grownArrays.remove(array);
+        if (grown == null) {
+            grown = new GrownArray(obj, property, Array.getLength(array));
+        }
+        grownArrays.put(biggerArray, grown);
+    }
+
+    /**
+     * Internal: Custom dataholder of an array grown by amortized growing.
+     */
+    private final static class GrownArray {
+        private final Object obj;
+        private final Property property;
+        private int length;
+
+        private GrownArray(Object obj, Property property, int length) {
+            this.obj = obj;
+            this.property = property;
+            this.length = length;
+        }
+    }
 }
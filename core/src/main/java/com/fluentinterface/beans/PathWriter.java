@@ -0,0 +1,139 @@
+package com.fluentinterface.beans;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A fixed set of property patterns, compiled into a prefix tree so that they can be written together
+ * by {@link ObjectWrapper#setValues(PathWriter, Object...)}.
+ *
+ * <p> Patterns sharing a prefix, such as "address.city" and "address.zip", share the nodes of that prefix:
+ * each intermediate object is read, or auto-instanced, only once per write, rather than once per pattern.
+ *
+ * <p> When a pattern is the prefix of another one, such as "address" and "address.city", the value of the
+ * shorter pattern is set before the longer one is traversed. Patterns sharing a prefix are otherwise written
+ * in the order of their first occurrence.
+ *
+ * <p> A writer is immutable, and can be shared between threads.
+ *
+ * @see PropertyPath
+ */
+public final class PathWriter {
+
+    private final String[] patterns;
+    final Node[] roots;
+
+    private PathWriter(String[] patterns, Node[] roots) {
+        this.patterns = patterns;
+        this.roots = roots;
+    }
+
+    /**
+     * Compiles the writer of the given patterns, for objects of the given class.
+     *
+     * @param rootClass the class of the objects the patterns are written to, cannot be {@code null}
+     * @param patterns  the patterns to write, in the order their values are given
+     * @return the compiled writer
+     * @throws NullPointerException     if the rootClass parameter is {@code null}
+     * @throws IllegalArgumentException if any of the patterns is {@code null}, or given more than once
+     * @throws IllegalArgumentException if any of the patterns contains an unclosed indexed\mapped '[]' notation
+     */
+    public static PathWriter compile(Class<?> rootClass, String... patterns) {
+        Builder root = new Builder(null);
+        for (int i = 0; i < patterns.length; i++) {
+            Builder node = root;
+            for (PropertyPath.Segment segment : PropertyPath.compile(rootClass, patterns[i]).segments) {
+                node = node.child(segment);
+            }
+
+            if (node.valueIndex >= 0) {
+                throw new IllegalArgumentException("The pattern '" + patterns[i] + "' is given more than once.");
+            }
+            node.valueIndex = i;
+        }
+
+        return new PathWriter(patterns.clone(), root.buildChildren());
+    }
+
+    /**
+     * Returns the patterns written by this writer, in the order their values are expected.
+     *
+     * <p> The caller of this method is free to modify the returned array; it will have no effect
+     * on the arrays returned to other callers.
+     *
+     * @return the patterns of this writer
+     */
+    public String[] getPatterns() {
+        return patterns.clone();
+    }
+
+    /**
+     * Internal: Returns the number of patterns, without copying them.
+     */
+    int getPatternCount() {
+        return patterns.length;
+    }
+
+    /**
+     * Returns a textual rapresentation of this writer.
+     *
+     * @return a string listing the patterns of this writer
+     */
+    @Override
+    public String toString() {
+        return "PathWriter" + Arrays.toString(patterns);
+    }
+
+    /**
+     * Internal: A segment shared by one or more patterns.
+     */
+    static final class Node {
+        final PropertyPath.Segment segment;
+        /**
+         * The index of the value to set to this segment, or -1 if no pattern ends here.
+         */
+        final int valueIndex;
+        final Node[] children;
+
+        private Node(PropertyPath.Segment segment, int valueIndex, Node[] children) {
+            this.segment = segment;
+            this.valueIndex = valueIndex;
+            this.children = children;
+        }
+    }
+
+    /**
+     * Internal: A mutable node, while the tree is built.
+     */
+    private static final class Builder {
+        private final PropertyPath.Segment segment;
+        private final List<Builder> children = new ArrayList<>();
+        private int valueIndex = -1;
+
+        private Builder(PropertyPath.Segment segment) {
+            this.segment = segment;
+        }
+
+        private Builder child(PropertyPath.Segment segment) {
+            for (Builder child : children) {
+                if (child.segment.text.equals(segment.text)) {
+                    return child;
+                }
+            }
+
+            Builder child = new Builder(segment);
+            children.add(child);
+            return child;
+        }
+
+        private Node[] buildChildren() {
+            Node[] nodes = new Node[children.size()];
+            for (int i = 0; i < nodes.length; i++) {
+                Builder child = children.get(i);
+                nodes[i] = new Node(child.segment, child.valueIndex, child.buildChildren());
+            }
+            return nodes;
+        }
+    }
+}
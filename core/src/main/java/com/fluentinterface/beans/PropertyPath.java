@@ -0,0 +1,246 @@
+package com.fluentinterface.beans;
+
+import com.fluentinterface.beans.reflect.Bean;
+import com.fluentinterface.beans.reflect.Property;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A property pattern, as supported by {@link ObjectWrapper#getValue(String)} and
+ * {@link ObjectWrapper#setValue(String, Object)}, parsed once into the chain of properties it traverses.
+ *
+ * <p> The pattern is split into segments when compiled, and the indexes of indexed segments are parsed,
+ * so that evaluating a compiled path allocates no string. Each segment also remembers the {@link Property}
+ * it resolved for the last class it was evaluated on: it is resolved from the declared types of the
+ * properties when the path is compiled, and only looked up again when an object of another class is found.
+ *
+ * <p> Compiled paths are cached per root class, up to {@value #MAX_CACHED_PATHS} patterns per class, and
+ * are safe to share between threads.
+ *
+ * @see ObjectWrapper#getValue(PropertyPath)
+ * @see ObjectWrapper#setValue(PropertyPath, Object)
+ */
+public final class PropertyPath {
+
+    static final int MAX_CACHED_PATHS = 256;
+
+    private static final ClassValue<ConcurrentMap<String, PropertyPath>> cache =
+            new ClassValue<ConcurrentMap<String, PropertyPath>>() {
+                @Override
+                protected ConcurrentMap<String, PropertyPath> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    private final String pattern;
+    private final Class<?> propertyType;
+    final Segment[] segments;
+
+    private PropertyPath(Class<?> rootClass, String pattern) {
+        this.pattern = pattern;
+        this.segments = parse(pattern);
+
+        Class<?> type = rootClass;
+        for (Segment segment : segments) {
+            Property property = type != null ? Bean.forClass(type).getProperty(segment.name) : null;
+            if (property == null) {
+                type = null;
+                break;
+            }
+
+            segment.resolved = new Resolution(type, property);
+            type = segment.isBracketed() ? property.getActualType() : property.getType();
+        }
+        this.propertyType = type;
+    }
+
+    /**
+     * Returns the compiled version of a property pattern, for objects of the given class.
+     *
+     * @param rootClass the class of the objects the pattern is evaluated on, cannot be {@code null}
+     * @param pattern   the pattern to compile, cannot be {@code null}
+     * @return the compiled pattern
+     * @throws NullPointerException     if the rootClass parameter is {@code null}
+     * @throws IllegalArgumentException if the pattern parameter is {@code null}
+     * @throws IllegalArgumentException if the pattern parameter contains an unclosed indexed\mapped '[]' notation
+     */
+    public static PropertyPath compile(Class<?> rootClass, String pattern) {
+        if (rootClass == null) {
+            throw new NullPointerException("Cannot compile a property pattern for a 'null' rootClass.");
+        }
+        if (pattern == null) {
+            throw new IllegalArgumentException("Cannot compile a 'null' property pattern.");
+        }
+
+        ConcurrentMap<String, PropertyPath> paths = cache.get(rootClass);
+        PropertyPath path = paths.get(pattern);
+        if (path == null) {
+            path = new PropertyPath(rootClass, pattern);
+            if (paths.size() < MAX_CACHED_PATHS) {
+                PropertyPath existing = paths.putIfAbsent(pattern, path);
+                if (existing != null) {
+                    path = existing;
+                }
+            }
+        }
+        return path;
+    }
+
+    /**
+     * Internal: Splits a pattern the same way {@link ObjectWrapper} traverses it: at each '.' found
+     * outside of a '[]' notation.
+     */
+    private static Segment[] parse(String pattern) {
+        List<Segment> segments = new ArrayList<>();
+
+        String remaining = pattern;
+        int position = ObjectWrapper.indexOfDotOrSquare(remaining);
+        while (position > 0) {
+            segments.add(new Segment(remaining.substring(0, position), remaining));
+            remaining = remaining.substring(position + 1);
+            position = ObjectWrapper.indexOfDotOrSquare(remaining);
+        }
+        segments.add(new Segment(remaining, remaining));
+
+        return segments.toArray(new Segment[segments.size()]);
+    }
+
+    /**
+     * Returns the pattern this path was compiled from.
+     *
+     * @return the pattern of this path
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Returns the type of the values located by this path, as declared by the properties
+     * it traverses from the root class: the type of the last property, or the type of
+     * its elements if it is indexed or mapped.
+     *
+     * @return the type of the values located by this path, or {@code null} if it cannot
+     * be resolved from the declared types
+     */
+    public Class<?> getPropertyType() {
+        return propertyType;
+    }
+
+    /**
+     * Returns true if the given property name is a pattern traversing nested, indexed
+     * or mapped properties, rather than the name of a simple property.
+     *
+     * @param property the property name or pattern to check, cannot be {@code null}
+     * @return true if the property contains a '.' or '[' notation
+     */
+    public static boolean isPattern(String property) {
+        return property.indexOf('.') >= 0 || property.indexOf('[') >= 0;
+    }
+
+    /**
+     * Returns a textual rapresentation of this path.
+     *
+     * @return the pattern of this path
+     */
+    @Override
+    public String toString() {
+        return pattern;
+    }
+
+    /**
+     * Internal: A simple ("foo"), indexed ("foo[1]") or mapped ("foo[key]") step of a path.
+     */
+    static final class Segment {
+        /**
+         * The pattern of this segment, as looked up when instancing a missing value.
+         */
+        final String text;
+        /**
+         * The pattern from this segment to the end of the path, as reported in error messages.
+         */
+        final String remaining;
+        final String name;
+        final String key;
+        private final boolean isIndexParsed;
+        private final int index;
+
+        private volatile Resolution resolved;
+
+        private Segment(String text, String remaining) {
+            this.text = text;
+            this.remaining = remaining;
+
+            // '[' inverse position if negative
+            int position = ObjectWrapper.indexOfDotOrSquare(text);
+            if (position < 0) {
+                int squarePosition = -position;
+                this.name = text.substring(0, squarePosition);
+                this.key = text.substring(squarePosition + 1, text.length() - 1);// removes ']'
+            } else {
+                this.name = text;
+                this.key = null;
+            }
+
+            boolean isIndexParsed = false;
+            int index = 0;
+            if (key != null) {
+                try {
+                    index = Integer.parseInt(key);
+                    isIndexParsed = true;
+                } catch (NumberFormatException e) {
+                    // only an error if used as an indexed property
+                }
+            }
+            this.isIndexParsed = isIndexParsed;
+            this.index = index;
+        }
+
+        boolean isBracketed() {
+            return key != null;
+        }
+
+        /**
+         * @return the property of this segment in the given class, or {@code null} if not found.
+         */
+        Property getProperty(Class<?> type) {
+            Resolution resolved = this.resolved;
+            if (resolved == null || resolved.type != type) {
+                Property property = Bean.forClass(type).getProperty(name);
+                if (property == null) {
+                    return null;
+                }
+
+                resolved = new Resolution(type, property);
+                this.resolved = resolved;
+            }
+            return resolved.property;
+        }
+
+        /**
+         * @throws IllegalArgumentException if the key of this segment is not a valid index.
+         */
+        int getIndex(Property property) {
+            if (!isIndexParsed) {
+                throw new IllegalArgumentException("The pattern '" + key + "' for the indexed "
+                                                           + property + " is invalid. Cannot parse the string to a valid integer index.");
+            }
+            return index;
+        }
+    }
+
+    /**
+     * Internal: The property of a segment, in a given class.
+     */
+    private static final class Resolution {
+        private final Class<?> type;
+        private final Property property;
+
+        private Resolution(Class<?> type, Property property) {
+            this.type = type;
+            this.property = property;
+        }
+    }
+}
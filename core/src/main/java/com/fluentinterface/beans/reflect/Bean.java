@@ -15,12 +15,12 @@
  */
 package com.fluentinterface.beans.reflect;
 
-import java.lang.ref.SoftReference;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * A bean provides introspected information about the properties
@@ -34,18 +34,26 @@ import java.util.concurrent.ConcurrentHashMap;
  * @see Class#getDeclaredMethods()
  */
 public final class Bean<T> {
-    private final static Map<Class<?>, SoftReference<Bean<?>>> beansCache = new ConcurrentHashMap<Class<?>, SoftReference<Bean<?>>>();
+    private final static ClassValue<Introspection> beansCache = new ClassValue<Introspection>() {
+        @Override
+        protected Introspection computeValue(Class<?> type) {
+            return new Introspection(type);
+        }
+    };
 
     private final Class<T> type;
-    private final Map<String, Property> properties;
-    private final Map<String, Property> declaredProperties;
+    private final ConcurrentMap<String, Property> properties = new ConcurrentHashMap<String, Property>();
+    private final ConcurrentMap<String, Property> declaredProperties = new ConcurrentHashMap<String, Property>();
+
+    private volatile Map<String, PropertyDescriptor> descriptors;
+    private volatile Map<String, PropertyDescriptor> declaredDescriptors;
 
     /**
      * Introspects a {@link Class} or an interface and learns about all
      * its {@link Property} elements.
      *
-     * <p> If the target type has been previously analized then the {@link Bean}
-     * instance is retrieved from a thread-safe {@link SoftReference} cache.
+     * <p> Each type is analized only once, even when accessed concurrently, and the
+     * {@link Bean} instance is cached for as long as the type itself is loaded.
      *
      * @param beanClass the class or interface to analize
      * @param <T>       the bean's type.
@@ -58,60 +66,103 @@ public final class Bean<T> {
             throw new NullPointerException("Cannot instrospect a bean with a 'null' beanClass.");
         }
 
-        Bean bean;
-        SoftReference<Bean<?>> softReference = beansCache.get(beanClass);
-
-        if (softReference == null) {
-            bean = new Bean(beanClass);
-            beansCache.put(beanClass, new SoftReference<Bean<?>>(bean));
-        } else {
-            bean = softReference.get();
-
-            if (bean == null) {
-                bean = new Bean(beanClass);
-                beansCache.put(beanClass, new SoftReference<Bean<?>>(bean));
-            }
-        }
-
-        return bean;
+        return (Bean<T>) beansCache.get(beanClass).get();
     }
 
     /**
-     * Internal: Introspects a {@link Class} or an interface and learns about all
-     * its {@link Property} elements.
+     * Internal: Creates the bean of a {@link Class} or an interface.
      *
      * <p> Private constructor, as the only way to get a {@link Bean} object is through
      * the {@link #forClass(Class)} static factory method.
      *
+     * <p> No introspection happens here: accessors are indexed by property name the first
+     * time a property is looked up, and each {@link Property} is only created when it is
+     * first requested, so that the cost of introspecting a type scales with the number of
+     * properties actually used rather than with the size of the type.
+     *
      * @param type the class or interface to analize
      */
     private Bean(Class<T> type) {
         this.type = type;
+    }
 
-        // Properties
-        Map<String, Property> properties = new HashMap<String, Property>();
-        for (PropertyDescriptor descriptor : getPropertyDescriptors(type.getMethods())) {
-            Property property = new Property(this, descriptor.name, descriptor.readMethod, descriptor.writeMethod);
-            properties.put(property.getName(), property);
+    /**
+     * Internal: Returns the accessors of the public properties, indexed by name.
+     *
+     * <p> The methods of the type are scanned only once, even when accessed concurrently.
+     *
+     * @return the descriptors of the public properties
+     */
+    private Map<String, PropertyDescriptor> descriptors() {
+        Map<String, PropertyDescriptor> descriptors = this.descriptors;
+        if (descriptors == null) {
+            synchronized (this) {
+                descriptors = this.descriptors;
+                if (descriptors == null) {
+                    descriptors = optimizeMap(getPropertyDescriptors(type.getMethods()));
+                    this.descriptors = descriptors;
+                }
+            }
         }
+        return descriptors;
+    }
 
-        // Declared Properties
-        Map<String, Property> declaredProperties = new HashMap<String, Property>();
-        for (PropertyDescriptor descriptor : getPropertyDescriptors(type.getDeclaredMethods())) {
-            Property declaredProperty = new Property(this, descriptor.name, descriptor.readMethod, descriptor.writeMethod);
-
-            // Properties are immutable and Map::containsValue(V) uses Property::equals() to check equality.
-            // Considering that a property with the same name, bean and accessors is "technically" equivalent
-            // to its corrispective declared version, then it can be used instead, saving some heap memory space.
-            if (properties.containsValue(declaredProperty)) {
-                declaredProperties.put(declaredProperty.getName(), properties.get(declaredProperty.getName()));
-            } else {
-                declaredProperties.put(declaredProperty.getName(), declaredProperty);
+    /**
+     * Internal: Returns the accessors of the declared properties, indexed by name.
+     *
+     * <p> The methods of the type are scanned only once, even when accessed concurrently.
+     *
+     * @return the descriptors of the declared properties
+     */
+    private Map<String, PropertyDescriptor> declaredDescriptors() {
+        Map<String, PropertyDescriptor> declaredDescriptors = this.declaredDescriptors;
+        if (declaredDescriptors == null) {
+            synchronized (this) {
+                declaredDescriptors = this.declaredDescriptors;
+                if (declaredDescriptors == null) {
+                    declaredDescriptors = optimizeMap(getPropertyDescriptors(type.getDeclaredMethods()));
+                    this.declaredDescriptors = declaredDescriptors;
+                }
             }
         }
+        return declaredDescriptors;
+    }
 
-        this.properties = optimizeMap(properties);
-        this.declaredProperties = optimizeMap(declaredProperties);
+    /**
+     * Internal: Creates the public property with the given accessors.
+     *
+     * @param descriptor the accessors of the property
+     * @return the new property
+     */
+    private Property createProperty(PropertyDescriptor descriptor) {
+        return new Property(this, descriptor.name, descriptor.readMethod, descriptor.writeMethod);
+    }
+
+    /**
+     * Internal: Creates the declared property with the given accessors.
+     *
+     * <p> Considering that a property with the same name, bean and accessors is "technically" equivalent
+     * to its corrispective public version, then the latter is used instead, saving some heap memory space.
+     *
+     * @param descriptor the accessors of the declared property
+     * @return the new declared property, or the equivalent public property
+     */
+    private Property createDeclaredProperty(PropertyDescriptor descriptor) {
+        PropertyDescriptor publicDescriptor = descriptors().get(descriptor.name);
+        if (publicDescriptor != null
+                && equal(publicDescriptor.readMethod, descriptor.readMethod)
+                && equal(publicDescriptor.writeMethod, descriptor.writeMethod)) {
+            return getProperty(descriptor.name);
+        }
+
+        return new Property(this, descriptor.name, descriptor.readMethod, descriptor.writeMethod);
+    }
+
+    /**
+     * Internal: {@code null}-safe equality of two accessors.
+     */
+    private static boolean equal(Method method, Method other) {
+        return method == null ? other == null : method.equals(other);
     }
 
     /**
@@ -124,9 +175,9 @@ public final class Bean<T> {
      * package {@code java.beans} is absent from the Android's Java API implementation.
      *
      * @param methods the methods to parse
-     * @return all the property descriptors found
+     * @return all the property descriptors found, indexed by name
      */
-    private static Collection<PropertyDescriptor> getPropertyDescriptors(Method[] methods) {
+    private static Map<String, PropertyDescriptor> getPropertyDescriptors(Method[] methods) {
         List<PropertyDescriptor> desciptorsHolder = new ArrayList<PropertyDescriptor>();
 
         // Collects writeMetod and readMethod
@@ -189,7 +240,7 @@ public final class Bean<T> {
             }
         }
 
-        return descriptors.values();
+        return descriptors;
     }
 
     /**
@@ -273,7 +324,21 @@ public final class Bean<T> {
             throw new NullPointerException("Cannot get a property with a 'null' propertyName.");
         }
 
-        return properties.get(propertyName);
+        Property property = properties.get(propertyName);
+        if (property == null) {
+            PropertyDescriptor descriptor = descriptors().get(propertyName);
+            if (descriptor == null) {
+                return null;
+            }
+
+            Property created = createProperty(descriptor);
+            property = properties.putIfAbsent(propertyName, created);
+            if (property == null) {
+                property = created;
+            }
+        }
+
+        return property;
     }
 
     /**
@@ -289,7 +354,21 @@ public final class Bean<T> {
             throw new NullPointerException("Cannot get a declared property with a 'null' propertyName.");
         }
 
-        return declaredProperties.get(propertyName);
+        Property declaredProperty = declaredProperties.get(propertyName);
+        if (declaredProperty == null) {
+            PropertyDescriptor descriptor = declaredDescriptors().get(propertyName);
+            if (descriptor == null) {
+                return null;
+            }
+
+            Property created = createDeclaredProperty(descriptor);
+            declaredProperty = declaredProperties.putIfAbsent(propertyName, created);
+            if (declaredProperty == null) {
+                declaredProperty = created;
+            }
+        }
+
+        return declaredProperty;
     }
 
     /**
@@ -306,10 +385,19 @@ public final class Bean<T> {
      * <p> The elements in the returned array are not sorted and are not in any
      * particular order.
      *
+     * <p> As all the properties are created at once, prefer {@link #getProperty(String)}
+     * when only some of them are needed.
+     *
      * @return an array with a shallow copy of all the public properties of this bean
      */
     public Property[] getProperties() {
-        return properties.values().toArray(new Property[properties.size()]);
+        Map<String, PropertyDescriptor> descriptors = descriptors();
+        Property[] properties = new Property[descriptors.size()];
+        int i = 0;
+        for (String propertyName : descriptors.keySet()) {
+            properties[i++] = getProperty(propertyName);
+        }
+        return properties;
     }
 
     /**
@@ -326,10 +414,19 @@ public final class Bean<T> {
      * <p> The elements in the returned array are not sorted and are not in any
      * particular order.
      *
+     * <p> As all the declared properties are created at once, prefer
+     * {@link #getDeclaredProperty(String)} when only some of them are needed.
+     *
      * @return an array with a shallow copy of all the declared properties of this bean
      */
     public Property[] getDeclaredProperties() {
-        return declaredProperties.values().toArray(new Property[declaredProperties.size()]);
+        Map<String, PropertyDescriptor> declaredDescriptors = declaredDescriptors();
+        Property[] declaredProperties = new Property[declaredDescriptors.size()];
+        int i = 0;
+        for (String propertyName : declaredDescriptors.keySet()) {
+            declaredProperties[i++] = getDeclaredProperty(propertyName);
+        }
+        return declaredProperties;
     }
 
     /**
@@ -396,6 +493,35 @@ public final class Bean<T> {
         }
     }
 
+    /**
+     * Internal: Introspects a type once, when first needed. {@link ClassValue} may compute several
+     * values for a type accessed concurrently before keeping one, so introspection is deferred
+     * to the kept value.
+     */
+    private final static class Introspection {
+        private final Class<?> type;
+        private volatile Bean<?> bean;
+
+        private Introspection(Class<?> type) {
+            this.type = type;
+        }
+
+        @SuppressWarnings("unchecked")
+        private Bean<?> get() {
+            Bean<?> bean = this.bean;
+            if (bean == null) {
+                synchronized (this) {
+                    bean = this.bean;
+                    if (bean == null) {
+                        bean = new Bean(type);
+                        this.bean = bean;
+                    }
+                }
+            }
+            return bean;
+        }
+    }
+
     /**
      * Internal: Custom dataholder.
      */
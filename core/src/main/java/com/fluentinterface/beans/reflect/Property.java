@@ -70,7 +70,6 @@ import static com.fluentinterface.beans.reflect.Bean.*;
 public final class Property implements AnnotatedElement {
 
     private final String name;
-    private final Field field;
     private final Method readMethod;
     private final Method writeMethod;
 
@@ -80,8 +79,7 @@ public final class Property implements AnnotatedElement {
     private final Type genericType;
     private final int hashCode;
 
-    private final Map<Class<? extends Annotation>, Annotation> annotations;
-    private final Map<Class<? extends Annotation>, Annotation> declaredAnnotations;
+    private volatile Members members;
 
     /**
      * Internal: Creates a new property.
@@ -129,34 +127,23 @@ public final class Property implements AnnotatedElement {
         }
 
         actualType = candidateActualType;
+    }
 
-        field = findAccessorField(declaringBean.getType(), name, type);
-
-        // Annotations
-        Map<Class<? extends Annotation>, Annotation> annotations = new HashMap<Class<? extends Annotation>, Annotation>(4);
-        Map<Class<? extends Annotation>, Annotation> declaredAnnotations = new HashMap<Class<? extends Annotation>, Annotation>(4);
-        for (AnnotatedElement element : new AnnotatedElement[]{field, readMethod, writeMethod}) {
-            if (element == null) {
-                continue;
-            }
-
-            // General Annotations
-            for (Annotation annotation : element.getAnnotations()) {
-                Class<? extends Annotation> annotationType = annotation.annotationType();
-                annotations.put(annotationType, annotation);
-            }
-
-            // Declared Annotations
-            if (((Member) element).getDeclaringClass() == declaringBean.getType()) {
-                for (Annotation annotation : element.getDeclaredAnnotations()) {
-                    Class<? extends Annotation> annotationType = annotation.annotationType();
-                    declaredAnnotations.put(annotationType, annotation);
-                }
-            }
+    /**
+     * Internal: Returns the backing field and the annotations of this property, which are
+     * only looked up the first time they are needed.
+     *
+     * <p> Concurrent callers may look them up more than once, but always find the same members.
+     *
+     * @return the backing field and the annotations of this property
+     */
+    private Members members() {
+        Members members = this.members;
+        if (members == null) {
+            members = new Members(findAccessorField(declaringBean.getType(), name, type));
+            this.members = members;
         }
-
-        this.annotations = optimizeMap(annotations);
-        this.declaredAnnotations = optimizeMap(declaredAnnotations);
+        return members;
     }
 
     /**
@@ -182,7 +169,7 @@ public final class Property implements AnnotatedElement {
      */
     @Override
     public Annotation[] getAnnotations() {
-        return annotations.values().toArray(new Annotation[0]);
+        return members().annotations.values().toArray(new Annotation[0]);
     }
 
     /**
@@ -202,7 +189,7 @@ public final class Property implements AnnotatedElement {
      */
     @Override
     public Annotation[] getDeclaredAnnotations() {
-        return declaredAnnotations.values().toArray(new Annotation[0]);
+        return members().declaredAnnotations.values().toArray(new Annotation[0]);
     }
 
     /**
@@ -219,7 +206,7 @@ public final class Property implements AnnotatedElement {
             throw new NullPointerException("Cannot get an annotation with a 'null' annotationClass.");
         }
 
-        return annotationClass.cast(annotations.get(annotationClass));
+        return annotationClass.cast(members().annotations.get(annotationClass));
     }
 
     /**
@@ -244,7 +231,7 @@ public final class Property implements AnnotatedElement {
             throw new NullPointerException("Cannot get a declared annotation with a 'null' annotationClass.");
         }
 
-        return annotationClass.cast(declaredAnnotations.get(annotationClass));
+        return annotationClass.cast(members().declaredAnnotations.get(annotationClass));
     }
 
     /**
@@ -261,7 +248,7 @@ public final class Property implements AnnotatedElement {
             throw new NullPointerException("Cannot check the presence of an annotation with a 'null' annotationClass.");
         }
 
-        return annotations.containsKey(annotationClass);
+        return members().annotations.containsKey(annotationClass);
     }
 
     /**
@@ -356,6 +343,7 @@ public final class Property implements AnnotatedElement {
      * @return A copy of the underlying field, or {@code null} if this property has no field
      */
     public Field getField() {
+        Field field = members().field;
         if (field == null) return null;
 
         try {
@@ -514,4 +502,42 @@ public final class Property implements AnnotatedElement {
     public String toString() {
         return "property " + declaringBean.getType().getName() + "." + name;
     }
+
+    /**
+     * Internal: Backing field and annotations of a property.
+     */
+    private final class Members {
+        private final Field field;
+        private final Map<Class<? extends Annotation>, Annotation> annotations;
+        private final Map<Class<? extends Annotation>, Annotation> declaredAnnotations;
+
+        private Members(Field field) {
+            this.field = field;
+
+            Map<Class<? extends Annotation>, Annotation> annotations = new HashMap<Class<? extends Annotation>, Annotation>(4);
+            Map<Class<? extends Annotation>, Annotation> declaredAnnotations = new HashMap<Class<? extends Annotation>, Annotation>(4);
+            for (AnnotatedElement element : new AnnotatedElement[]{field, readMethod, writeMethod}) {
+                if (element == null) {
+                    continue;
+                }
+
+                // General Annotations
+                for (Annotation annotation : element.getAnnotations()) {
+                    Class<? extends Annotation> annotationType = annotation.annotationType();
+                    annotations.put(annotationType, annotation);
+                }
+
+                // Declared Annotations
+                if (((Member) element).getDeclaringClass() == declaringBean.getType()) {
+                    for (Annotation annotation : element.getDeclaredAnnotations()) {
+                        Class<? extends Annotation> annotationType = annotation.annotationType();
+                        declaredAnnotations.put(annotationType, annotation);
+                    }
+                }
+            }
+
+            this.annotations = optimizeMap(annotations);
+            this.declaredAnnotations = optimizeMap(declaredAnnotations);
+        }
+    }
 }
@@ -0,0 +1,156 @@
+package com.fluentinterface.convert;
+
+import com.fluentinterface.convert.Conversions.ConverterEntry;
+
+import java.lang.reflect.Type;
+import java.util.*;
+
+/**
+ * Finds the first of a list of conversions that matches a source and a target class without evaluating all their
+ * matchers.
+ * <p>
+ * Each conversion is indexed by one of its {@link DeclaredTypeMatcher}s, in that order of preference: under the exact
+ * types matched by its source or target matcher, or else under the supertype of its source or target matcher. Only the
+ * conversions matching any type or the subtypes of an array type, or using other matchers on both sides, are scanned in
+ * order. A lookup then evaluates the conversions of the buckets of the source and target classes and of their
+ * supertypes, so that its cost depends on the number of conversions of these types rather than on the total number of
+ * conversions.
+ * <p>
+ * Buckets keep the conversions in the order they were registered, and a lookup returns the first registered matching
+ * conversion, exactly like scanning the whole list would. Indexes are immutable.
+ */
+final class ConversionIndex {
+
+    private final Map<Type, List<Candidate>> bySourceType = new HashMap<>();
+    private final Map<Type, List<Candidate>> byTargetType = new HashMap<>();
+    private final Map<Class<?>, List<Candidate>> bySourceSupertype = new HashMap<>();
+    private final Map<Class<?>, List<Candidate>> byTargetSupertype = new HashMap<>();
+    private final List<Candidate> scanned = new ArrayList<>();
+
+    ConversionIndex(List<ConverterEntry> converters) {
+        int order = 0;
+        for (ConverterEntry entry : converters) {
+            add(new Candidate(order++, entry));
+        }
+    }
+
+    private void add(Candidate candidate) {
+        DeclaredTypeMatcher<?> source = declared(candidate.entry.matcher, true);
+        DeclaredTypeMatcher<?> target = declared(candidate.entry.matcher, false);
+
+        if (is(source, DeclaredTypeMatcher.Kind.EXACT)) {
+            source.getTypes().forEach(type -> bucket(bySourceType, type).add(candidate));
+        } else if (is(target, DeclaredTypeMatcher.Kind.EXACT)) {
+            target.getTypes().forEach(type -> bucket(byTargetType, type).add(candidate));
+        } else if (isSubtypeOfClass(source)) {
+            bucket(bySourceSupertype, source.getSupertype()).add(candidate);
+        } else if (isSubtypeOfClass(target)) {
+            bucket(byTargetSupertype, target.getSupertype()).add(candidate);
+        } else {
+            scanned.add(candidate);
+        }
+    }
+
+    /**
+     * @return the source or target matcher of the provided matcher, if it is declarative, {@code null} otherwise.
+     */
+    private static DeclaredTypeMatcher<?> declared(PathMatcher<?, ?> matcher, boolean source) {
+        if (!(matcher instanceof TypePathMatcher)) {
+            return null;
+        }
+        TypePathMatcher<?, ?> pathMatcher = (TypePathMatcher<?, ?>) matcher;
+        TypeMatcher<?> typeMatcher = source ? pathMatcher.getSource() : pathMatcher.getTarget();
+        return typeMatcher instanceof DeclaredTypeMatcher ? (DeclaredTypeMatcher<?>) typeMatcher : null;
+    }
+
+    private static boolean is(DeclaredTypeMatcher<?> matcher, DeclaredTypeMatcher.Kind kind) {
+        return matcher != null && matcher.getKind() == kind;
+    }
+
+    /**
+     * Arrays are subtypes of the arrays of the supertypes of their components, which are not part of
+     * {@link #supertypesOf(Class)}: the subtypes of array types are scanned instead.
+     */
+    private static boolean isSubtypeOfClass(DeclaredTypeMatcher<?> matcher) {
+        return is(matcher, DeclaredTypeMatcher.Kind.SUBTYPE) && !matcher.getSupertype().isArray();
+    }
+
+    private static <K> List<Candidate> bucket(Map<K, List<Candidate>> buckets, K key) {
+        return buckets.computeIfAbsent(key, k -> new ArrayList<>());
+    }
+
+    /**
+     * @return the first registered conversion matching the source and target classes, or {@code null} if there is none.
+     */
+    Conversions.Convert find(Class<?> sourceType, Class<?> targetType) {
+        Candidate first = firstMatch(bySourceType.get(sourceType), null, sourceType, targetType);
+        first = firstMatch(byTargetType.get(targetType), first, sourceType, targetType);
+        if (!bySourceSupertype.isEmpty()) {
+            for (Class<?> supertype : supertypesOf(sourceType)) {
+                first = firstMatch(bySourceSupertype.get(supertype), first, sourceType, targetType);
+            }
+        }
+        if (!byTargetSupertype.isEmpty()) {
+            for (Class<?> supertype : supertypesOf(targetType)) {
+                first = firstMatch(byTargetSupertype.get(supertype), first, sourceType, targetType);
+            }
+        }
+        first = firstMatch(scanned, first, sourceType, targetType);
+
+        return first != null ? first.entry.converter : null;
+    }
+
+    /**
+     * @return the first candidate of the bucket matching the types if it was registered before the current first match,
+     * the current first match otherwise.
+     */
+    private static Candidate firstMatch(List<Candidate> bucket, Candidate first, Class<?> sourceType, Class<?> targetType) {
+        if (bucket != null) {
+            for (Candidate candidate : bucket) {
+                if (first != null && candidate.order > first.order) {
+                    break;
+                }
+                if (candidate.entry.matcher.matches(sourceType, targetType)) {
+                    return candidate;
+                }
+            }
+        }
+        return first;
+    }
+
+    /**
+     * @return the class itself, its superclasses and all the interfaces it implements, plus {@link Object} for
+     * interfaces, of which every interface is considered a subtype.
+     */
+    private static Set<Class<?>> supertypesOf(Class<?> type) {
+        Set<Class<?>> supertypes = new LinkedHashSet<>();
+        Deque<Class<?>> pending = new ArrayDeque<>();
+        pending.add(type);
+        while (!pending.isEmpty()) {
+            Class<?> current = pending.poll();
+            if (supertypes.add(current)) {
+                if (current.getSuperclass() != null) {
+                    pending.add(current.getSuperclass());
+                }
+                pending.addAll(Arrays.asList(current.getInterfaces()));
+            }
+        }
+        if (type.isInterface()) {
+            supertypes.add(Object.class);
+        }
+        return supertypes;
+    }
+
+    /**
+     * Internal: A conversion, along with its position in the list of conversions.
+     */
+    private static final class Candidate {
+        private final int order;
+        private final ConverterEntry entry;
+
+        private Candidate(int order, ConverterEntry entry) {
+            this.order = order;
+            this.entry = entry;
+        }
+    }
+}
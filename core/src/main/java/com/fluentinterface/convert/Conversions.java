@@ -0,0 +1,279 @@
+package com.fluentinterface.convert;
+
+import javax.lang.model.type.NullType;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.*;
+import java.util.*;
+
+import static com.fluentinterface.convert.PathMatcher.match;
+import static com.fluentinterface.convert.TypeMatcher.*;
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * An ordered registry of conversions: the first conversion whose matcher accepts a source and target type is the one
+ * applied.
+ * <p>
+ * Conversions are mutable, and not thread-safe, until {@link #freeze() frozen}. A frozen instance rejects any further
+ * registration and can then be shared by any number of {@link Converter}s and threads, which is how
+ * {@link #frozenDefaults()} is shared by all the converters created without explicit conversions.
+ * <p>
+ * The conversion resolved for a source and target class, or the absence of one, is cached the first time it is looked
+ * up, so that converting values of the same classes again does not evaluate the matchers. The cache is kept with
+ * {@link ClassValue}s, so that it does not prevent classes from being unloaded nor these conversions from being
+ * collected, and is discarded when a conversion is added. Conversions
+ * registered with the matchers created by {@link TypeMatcher} are indexed by type (see {@link ConversionIndex}), so
+ * that resolving a conversion for the first time does not evaluate all the matchers either.
+ */
+public class Conversions {
+    private static final Conversions FROZEN_DEFAULTS = defaults().freeze();
+
+    /**
+     * Cached in place of the conversions of source and target classes that have none.
+     */
+    private static final Convert<?, ?> NO_CONVERSION = (v, t, c) -> v;
+
+    private volatile List<ConverterEntry> converters = new ArrayList<>();
+    private volatile boolean frozen;
+    private volatile Lookups lookups;
+
+    private Conversions(List<ConverterEntry> converters) {
+        this.converters.addAll(converters);
+    }
+
+    public static Conversions empty() {
+        return new Conversions(emptyList());
+    }
+
+    /**
+     * @return a new, mutable, registry of the default conversions.
+     */
+    public static Conversions defaults() {
+        return empty().addDefaultConverters();
+    }
+
+    /**
+     * @return the registry of the default conversions shared by all converters, which is frozen.
+     */
+    public static Conversions frozenDefaults() {
+        return FROZEN_DEFAULTS;
+    }
+
+    public static Conversions of(Conversions... conversions) {
+        return new Conversions(Arrays.stream(conversions)
+                                     .map(c -> c.converters)
+                                     .flatMap(Collection::stream)
+                                     .collect(toList()));
+    }
+
+    public <S, T> Conversions add(TypeMatcher<S> source, TypeMatcher<T> destination, Convert<S, T> converter) {
+        return add(match(source, destination), converter);
+    }
+
+    /**
+     * @throws IllegalStateException if these conversions are frozen.
+     */
+    public <S, T> Conversions add(PathMatcher<S, T> matcher, Convert<S, T> converter) {
+        if (frozen) {
+            throw new IllegalStateException(
+                    "Cannot add a conversion to frozen conversions, combine them into new ones with Conversions.of()");
+        }
+        converters.add(new ConverterEntry(matcher, converter));
+        lookups = null;
+        return this;
+    }
+
+    /**
+     * Prevents any further conversion from being added, so that these conversions can safely be shared between
+     * converters and threads. Freezing conversions that are already frozen has no effect.
+     *
+     * @return these conversions.
+     */
+    public Conversions freeze() {
+        if (!frozen) {
+            converters = Collections.unmodifiableList(new ArrayList<>(converters));
+            frozen = true;
+        }
+        return this;
+    }
+
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    public Conversions addDefaultConverters() {
+        add(nulls(), is(boolean.class), (v, t, c) -> false);
+        add(nulls(), is(char.class), (v, t, c) -> (char) 0);
+        add(nulls(), is(byte.class), (v, t, c) -> (byte) 0);
+        add(nulls(), is(short.class), (v, t, c) -> (short) 0);
+        add(nulls(), is(int.class), (v, t, c) -> 0);
+        add(nulls(), is(long.class), (v, t, c) -> 0L);
+        add(nulls(), is(float.class), (v, t, c) -> 0f);
+        add(nulls(), is(double.class), (v, t, c) -> 0d);
+        add(nulls(), any(), (v, t, c) -> null);
+
+        add(is(String.class), is(Boolean.class, boolean.class), (v, t, c) -> Boolean.parseBoolean(v));
+        add(is(String.class), is(Character.class, char.class), (v, t, c) -> v.length() > 0 ? v.charAt(0) : 0);
+        add(is(String.class), is(Short.class, short.class), (v, t, c) -> Short.parseShort(v));
+        add(is(String.class), is(Byte.class, byte.class), (v, t, c) -> Byte.parseByte(v));
+        add(is(String.class), is(Integer.class, int.class), (v, t, c) -> Integer.parseInt(v));
+        add(is(String.class), is(Long.class, long.class), (v, t, c) -> Long.parseLong(v));
+        add(is(String.class), is(Float.class, float.class), (v, t, c) -> Float.parseFloat(v));
+        add(is(String.class), is(Double.class, double.class), (v, t, c) -> Double.parseDouble(v));
+        add(is(String.class), is(BigDecimal.class), (v, t, c) -> BigDecimal.valueOf(Double.parseDouble(v)));
+        add(is(String.class), is(BigInteger.class), (v, t, c) -> BigInteger.valueOf(Long.parseLong(v)));
+
+        add(is(String.class), is(Date.class), Converters.stringToDate);
+        add(is(String.class), is(LocalDate.class), (v, t, c) -> LocalDate.parse(v));
+        add(is(String.class), is(LocalTime.class), (v, t, c) -> LocalTime.parse(v));
+        add(is(String.class), is(LocalDateTime.class), (v, t, c) -> LocalDateTime.parse(v));
+        add(is(String.class), is(ZonedDateTime.class), (v, t, c) -> ZonedDateTime.parse(v));
+        add(is(String.class), is(Instant.class), (v, t, c) -> Instant.parse(v));
+        add(is(String.class), isInstanceOf(Enum.class), Converters.stringToEnum());
+
+        add(any(), is(String.class), (v, t, c) -> v.toString());
+
+        return this;
+    }
+
+    /**
+     * @param source the type of the value to convert, or {@code null} for {@code null} values.
+     * @return the first conversion matching the source and target types, or {@code null} if there is none.
+     */
+    Convert find(Type source, Type target) {
+        Type sourceType = source != null ? source : NullType.class;
+
+        if (sourceType instanceof Class && target instanceof Class) {
+            Convert converter = lookups().get((Class<?>) sourceType, (Class<?>) target);
+            return converter != NO_CONVERSION ? converter : null;
+        }
+        return scan(converters, sourceType, target);
+    }
+
+    private Lookups lookups() {
+        Lookups lookups = this.lookups;
+        if (lookups == null) {
+            lookups = new Lookups(frozen ? converters : new ArrayList<>(converters));
+            this.lookups = lookups;
+        }
+        return lookups;
+    }
+
+    /**
+     * @return the first of the conversions matching the source and target types, or {@code null} if there is none.
+     */
+    static Convert scan(List<ConverterEntry> converters, Type sourceType, Type targetType) {
+        for (ConverterEntry entry : converters) {
+            if (entry.matcher.matches(sourceType, targetType)) {
+                return entry.converter;
+            }
+        }
+        return null;
+    }
+
+    @FunctionalInterface
+    public interface Convert<S, T> {
+        T convert(S source, Class<T> target, Converter converter);
+    }
+
+    /**
+     * Internal: The conversions resolved from an index of a snapshot of the registered ones.
+     * <p>
+     * They are cached on the source class, by {@link Lookups} still in use, then on the target class. Neither the
+     * {@link Lookups} nor the {@link Conversions} refer to the classes, which can be unloaded even though
+     * {@link #frozenDefaults()} is never collected, and the classes only refer weakly to the {@link Lookups} and to the
+     * conversions, which are collected along with discarded {@link Conversions}.
+     */
+    private static final class Lookups {
+        private static final ClassValue<SourceLookups> bySourceType = new ClassValue<SourceLookups>() {
+            @Override
+            protected SourceLookups computeValue(Class<?> sourceType) {
+                return new SourceLookups(sourceType);
+            }
+        };
+
+        private final ConversionIndex index;
+
+        private Lookups(List<ConverterEntry> converters) {
+            this.index = new ConversionIndex(converters);
+        }
+
+        private Convert get(Class<?> sourceType, Class<?> targetType) {
+            return bySourceType.get(sourceType).of(this).get(targetType).get();
+        }
+    }
+
+    /**
+     * Internal: The conversions of a source class resolved by each {@link Lookups} that used it. There are seldom more
+     * than a few, so they are kept in an array that is copied when one is added, dropping those no longer in use.
+     */
+    private static final class SourceLookups {
+        private final Class<?> sourceType;
+        private volatile TargetLookups[] targetLookups = new TargetLookups[0];
+
+        private SourceLookups(Class<?> sourceType) {
+            this.sourceType = sourceType;
+        }
+
+        private TargetLookups of(Lookups lookups) {
+            for (TargetLookups candidate : targetLookups) {
+                if (candidate.lookups.get() == lookups) {
+                    return candidate;
+                }
+            }
+            return add(lookups);
+        }
+
+        private synchronized TargetLookups add(Lookups lookups) {
+            List<TargetLookups> inUse = new ArrayList<>();
+            for (TargetLookups candidate : targetLookups) {
+                Lookups candidateLookups = candidate.lookups.get();
+                if (candidateLookups == lookups) {
+                    return candidate;
+                }
+                if (candidateLookups != null) {
+                    inUse.add(candidate);
+                }
+            }
+
+            TargetLookups added = new TargetLookups(lookups, sourceType);
+            inUse.add(added);
+            targetLookups = inUse.toArray(new TargetLookups[0]);
+            return added;
+        }
+    }
+
+    /**
+     * Internal: The conversions of a source class resolved by a {@link Lookups}, by target class. Conversions are
+     * referenced weakly, as they are strongly referenced by the index of the {@link Lookups} as long as it is used.
+     */
+    private static final class TargetLookups extends ClassValue<WeakReference<Convert>> {
+        private final WeakReference<Lookups> lookups;
+        private final Class<?> sourceType;
+
+        private TargetLookups(Lookups lookups, Class<?> sourceType) {
+            this.lookups = new WeakReference<>(lookups);
+            this.sourceType = sourceType;
+        }
+
+        @Override
+        protected WeakReference<Convert> computeValue(Class<?> targetType) {
+            // only called through the Lookups, which is therefore still referenced
+            Convert converter = lookups.get().index.find(sourceType, targetType);
+            return new WeakReference<>(converter != null ? converter : NO_CONVERSION);
+        }
+    }
+
+    static final class ConverterEntry {
+        final PathMatcher matcher;
+        final Convert converter;
+
+        ConverterEntry(PathMatcher matcher, Convert converter) {
+            this.matcher = matcher;
+            this.converter = converter;
+        }
+    }
+}
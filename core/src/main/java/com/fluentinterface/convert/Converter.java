@@ -0,0 +1,29 @@
+package com.fluentinterface.convert;
+
+import static com.fluentinterface.utils.TypeConversionUtils.translateFromPrimitive;
+
+public class Converter {
+
+    private final Conversions conversions;
+
+    public Converter(Conversions conversions) {
+        this.conversions = conversions;
+    }
+
+    public Converter() {
+        this(Conversions.frozenDefaults());
+    }
+
+    @SuppressWarnings("unchecked")
+    public <S, T> T convert(S source, Class<T> targetType) {
+        if (targetType.isInstance(source)
+                || (targetType.isPrimitive() && translateFromPrimitive(targetType).isInstance(source))) {
+            return (T) source;
+        }
+
+        Class<?> sourceType = source != null ? source.getClass() : null;
+
+        Conversions.Convert conversion = conversions.find(sourceType, targetType);
+        return conversion != null ? (T) conversion.convert(source, targetType, this) : (T) source;
+    }
+}
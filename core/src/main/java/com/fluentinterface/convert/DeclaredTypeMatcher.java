@@ -0,0 +1,81 @@
+package com.fluentinterface.convert;
+
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * A {@link TypeMatcher} created by one of the factory methods of that interface, which tells which types it matches
+ * rather than only whether it matches a given type, so that {@link ConversionIndex} can look its conversions up by type.
+ */
+final class DeclaredTypeMatcher<T> implements TypeMatcher<T> {
+
+    enum Kind {
+        /**
+         * Matches any type.
+         */
+        ANY,
+        /**
+         * Matches the types of {@link #getTypes()} only.
+         */
+        EXACT,
+        /**
+         * Matches {@link #getSupertype()} and its subtypes.
+         */
+        SUBTYPE
+    }
+
+    private static final DeclaredTypeMatcher<?> ANY = new DeclaredTypeMatcher<>(Kind.ANY, Collections.emptySet(), null);
+
+    private final Kind kind;
+    private final Set<Type> types;
+    private final Class<?> supertype;
+
+    private DeclaredTypeMatcher(Kind kind, Set<Type> types, Class<?> supertype) {
+        this.kind = kind;
+        this.types = types;
+        this.supertype = supertype;
+    }
+
+    static DeclaredTypeMatcher<?> any() {
+        return ANY;
+    }
+
+    static <T> DeclaredTypeMatcher<T> exact(Set<Type> types) {
+        return new DeclaredTypeMatcher<>(Kind.EXACT, types, null);
+    }
+
+    static <T> DeclaredTypeMatcher<T> subtypeOf(Class<?> type) {
+        return new DeclaredTypeMatcher<>(Kind.SUBTYPE, Collections.emptySet(), type);
+    }
+
+    Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * @return the types matched by an {@link Kind#EXACT} matcher, empty for other kinds.
+     */
+    Set<Type> getTypes() {
+        return types;
+    }
+
+    /**
+     * @return the supertype of the types matched by a {@link Kind#SUBTYPE} matcher, {@code null} for other kinds.
+     */
+    Class<?> getSupertype() {
+        return supertype;
+    }
+
+    @Override
+    public boolean matches(Type type) {
+        switch (kind) {
+            case EXACT:
+                return types.contains(type);
+            case SUBTYPE:
+                return supertype.isAssignableFrom((Class<?>) type);
+            default:
+                return true;
+        }
+    }
+}
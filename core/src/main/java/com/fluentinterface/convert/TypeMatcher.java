@@ -0,0 +1,41 @@
+package com.fluentinterface.convert;
+
+import javax.lang.model.type.NullType;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+
+/**
+ * Matches the source or target types of a conversion.
+ * <p>
+ * The matchers created by the factory methods of this interface are declarative: {@link Conversions} index the
+ * conversions they are used in by the types they match, so that finding the conversion of given types does not
+ * evaluate every registered matcher. Any other implementation can be used as well, but is evaluated in turn.
+ */
+public interface TypeMatcher<T> {
+    boolean matches(Type type);
+
+    static TypeMatcher<?> any() {
+        return DeclaredTypeMatcher.any();
+    }
+
+    static TypeMatcher<?> nulls() {
+        return DeclaredTypeMatcher.exact(Collections.singleton(NullType.class));
+    }
+
+    static <T> TypeMatcher<T> is(Class<T> type) {
+        return DeclaredTypeMatcher.exact(Collections.singleton(type));
+    }
+
+    static TypeMatcher<? super Object> is(Type... types) {
+        Set<Type> typeSet = new HashSet<>(asList(types));
+        return DeclaredTypeMatcher.exact(typeSet);
+    }
+
+    static <T> TypeMatcher<T> isInstanceOf(Class<? extends T> numberClass) {
+        return DeclaredTypeMatcher.subtypeOf(numberClass);
+    }
+}
@@ -0,0 +1,31 @@
+package com.fluentinterface.convert;
+
+import java.lang.reflect.Type;
+
+/**
+ * A {@link PathMatcher} combining a source and a target {@link TypeMatcher}, which both remain available to
+ * {@link ConversionIndex}.
+ */
+final class TypePathMatcher<S, T> implements PathMatcher<S, T> {
+
+    private final TypeMatcher<S> source;
+    private final TypeMatcher<T> target;
+
+    TypePathMatcher(TypeMatcher<S> source, TypeMatcher<T> target) {
+        this.source = source;
+        this.target = target;
+    }
+
+    TypeMatcher<S> getSource() {
+        return source;
+    }
+
+    TypeMatcher<T> getTarget() {
+        return target;
+    }
+
+    @Override
+    public boolean matches(Type sourceType, Type targetType) {
+        return source.matches(sourceType) && target.matches(targetType);
+    }
+}
@@ -0,0 +1,32 @@
+package com.fluentinterface.proxy;
+
+/**
+ * How dynamic builders implement their builder interface.
+ */
+public enum BuilderEngine {
+
+    /**
+     * Builders are {@link java.lang.reflect.Proxy dynamic proxies}: every builder method invocation goes through a
+     * single invocation handler. This is the default, and has no dependency.
+     */
+    DYNAMIC_PROXY,
+
+    /**
+     * A concrete class implementing each builder method directly is generated at runtime for the builder interface.
+     * Generating the class is more costly than creating a proxy class, but calling the builder methods is faster.
+     * <p>
+     * Requires the <a href="https://asm.ow2.io/">ASM</a> library ({@code org.ow2.asm:asm}) on the classpath.
+     */
+    GENERATED_CLASS,
+
+    /**
+     * Builders start as {@link #DYNAMIC_PROXY dynamic proxies}, which are cheap to set up. Once the builders of the
+     * builder interface have built a given number of objects, new builders are created from a
+     * {@link #GENERATED_CLASS generated class} instead. Builders that are seldom used never pay for class generation.
+     * <p>
+     * The threshold and a listener notified of the transition can be set with
+     * {@link com.fluentinterface.ReflectionBuilder#usingTieredEngine(long, TierListener)}. If the class cannot be
+     * generated (for instance because ASM is missing), builders keep being dynamic proxies.
+     */
+    TIERED
+}
@@ -35,9 +35,11 @@ public interface BuilderState {
     <P> Optional<P> peek(String property, Class<P> type);
 
     /**
-     * Returns the value of a property as set with any of the builder methods invocation, and removes the property
-     * from the state as to not further use it for building the object. This is intended to be used for passing specific
-     * properties values to constructors for initial instantiation.
+     * Returns the value of a property as set with any of the builder methods invocation, and marks the property as
+     * consumed by the object being built, so that it is not set again on that object once instantiated. This is intended
+     * to be used for passing specific properties values to constructors for initial instantiation.
+     * Consuming a property only applies to the current build: the builder keeps its value, which the next objects it
+     * builds can peek or consume again, or otherwise get set.
      * If a conversion is required (either implicit conversion or a conversion configured with `@Sets` annotation), that
      * conversion will be performed prior to returning the value.
      *
@@ -0,0 +1,22 @@
+package com.fluentinterface.proxy;
+
+public interface PropertyAccessStrategy {
+
+    Class getPropertyType(Class<?> targetClass, String property);
+
+    void setPropertyValue(Object target, String property, Object value) throws Exception;
+
+    default PropertyTarget targetFor(final Object instance) {
+        return (property, value) -> PropertyAccessStrategy.this.setPropertyValue(instance, property, value);
+    }
+
+    /**
+     * Resolves how to set a property of objects of the target class, once for all the objects that builders will build.
+     * Strategies should fail here rather than when writing if the property cannot be set.
+     * <p>
+     * The default implementation resolves nothing and sets the property with {@link #setPropertyValue(Object, String, Object)}.
+     */
+    default PropertyWriter writerFor(Class<?> targetClass, String property) {
+        return (target, value) -> setPropertyValue(target, property, value);
+    }
+}
@@ -0,0 +1,11 @@
+package com.fluentinterface.proxy;
+
+/**
+ * Sets a given property of objects of a given class, as resolved once by
+ * {@link PropertyAccessStrategy#writerFor(Class, String)}.
+ */
+@FunctionalInterface
+public interface PropertyWriter {
+
+    void write(Object target, Object value) throws Exception;
+}
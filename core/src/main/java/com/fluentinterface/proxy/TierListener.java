@@ -0,0 +1,17 @@
+package com.fluentinterface.proxy;
+
+/**
+ * Notified when the builders of a builder interface using the {@link BuilderEngine#TIERED tiered engine} switch from
+ * dynamic proxies to a generated class.
+ */
+public interface TierListener {
+
+    /**
+     * Called once per builder interface and configuration, by the thread creating the first builder of the generated
+     * class.
+     *
+     * @param builderInterface the builder interface
+     * @param builds           the number of objects built by dynamic proxies before the transition
+     */
+    void promoted(Class<?> builderInterface, long builds);
+}
@@ -0,0 +1,97 @@
+package com.fluentinterface.proxy.internal;
+
+import com.fluentinterface.BuilderFactory;
+import com.fluentinterface.convert.Conversions;
+import com.fluentinterface.proxy.BuilderDelegate;
+import com.fluentinterface.proxy.BuilderEngine;
+import com.fluentinterface.proxy.DefaultBuilderDelegate;
+import com.fluentinterface.proxy.Instantiator;
+import com.fluentinterface.proxy.PropertyAccessStrategy;
+
+import java.util.function.Supplier;
+
+/**
+ * Base class of the factories of builders: holds the fully resolved configuration of the builders and the analysis of
+ * their interface, shared by all the builders created by the factory.
+ *
+ * @param <B> the builder interface
+ */
+public abstract class AbstractBuilderFactory<B> implements BuilderFactory<B> {
+
+    /*
+     * The built-in strategies and delegate used by ReflectionBuilder. The analysis of builder interfaces configured only
+     * with them is cached for as long as the interface, while the analysis of other configurations is only shared by
+     * the factories and builders using it.
+     */
+    public static final PropertyAccessStrategy SETTERS_ACCESS_STRATEGY =
+            DispatchTable.retain(new SetterPropertyAccessStrategy());
+    public static final PropertyAccessStrategy FIELDS_ACCESS_STRATEGY =
+            DispatchTable.retain(new FieldPropertyAccessStrategy());
+    public static final PropertyAccessStrategy LAMBDA_SETTERS_ACCESS_STRATEGY =
+            DispatchTable.retain(new LambdaSetterPropertyAccessStrategy());
+    public static final PropertyAccessStrategy SETTERS_OR_FIELDS_ACCESS_STRATEGY =
+            DispatchTable.retain(new HybridPropertyAccessStrategy());
+    public static final BuilderDelegate DEFAULT_BUILDER_DELEGATE = DispatchTable.retain(new DefaultBuilderDelegate());
+
+    protected final Class<?> builtClass;
+    protected final BuilderDelegate builderDelegate;
+    protected final PropertyAccessStrategy propertyAccessStrategy;
+    protected final Instantiator instantiator;
+    protected final Conversions conversions;
+    final DispatchTable dispatchTable;
+
+    protected AbstractBuilderFactory(Class<B> builderInterface,
+                                     Class<?> builtClass,
+                                     BuilderDelegate builderDelegate,
+                                     PropertyAccessStrategy propertyAccessStrategy,
+                                     Instantiator instantiator,
+                                     Conversions conversions) {
+
+        this.builtClass = builtClass;
+        this.builderDelegate = builderDelegate;
+        this.propertyAccessStrategy = propertyAccessStrategy;
+        this.instantiator = instantiator != null ? instantiator : defaultInstantiatorOf(builtClass);
+        this.conversions = frozen(conversions);
+        this.dispatchTable = DispatchTable.forBuilder(builderInterface, builtClass, builderDelegate, propertyAccessStrategy,
+                                                      this.conversions);
+    }
+
+    /**
+     * @return the canonical constructor of the built class if it has one (see {@link PropertiesConstructor}), its empty
+     * constructor otherwise.
+     */
+    private static Instantiator defaultInstantiatorOf(Class<?> builtClass) {
+        PropertiesConstructor<?> propertiesConstructor = builtClass != null ? PropertiesConstructor.forClass(builtClass) : null;
+        return propertiesConstructor != null ? propertiesConstructor : new EmptyConstructor<>(builtClass);
+    }
+
+    /**
+     * Returns the factory of the engine shared by the builders of the interface configured with the provided objects
+     * and the default instantiator, creating it the first time. The factory is kept for as long as the analysis of the
+     * interface with this configuration.
+     *
+     * @param factory creates the factory of the engine, with the provided configuration and the default instantiator.
+     */
+    public static <B> AbstractBuilderFactory<B> shared(Class<B> builderInterface,
+                                                       Class<?> builtClass,
+                                                       BuilderDelegate builderDelegate,
+                                                       PropertyAccessStrategy propertyAccessStrategy,
+                                                       Conversions conversions,
+                                                       BuilderEngine engine,
+                                                       Supplier<AbstractBuilderFactory<B>> factory) {
+        DispatchTable dispatchTable = DispatchTable.forBuilder(builderInterface, builtClass, builderDelegate,
+                                                               propertyAccessStrategy, frozen(conversions));
+        return dispatchTable.sharedFactory(engine, factory);
+    }
+
+    private static Conversions frozen(Conversions conversions) {
+        return conversions != null ? conversions.freeze() : Conversions.frozenDefaults();
+    }
+
+    /**
+     * @throws IllegalStateException listing all the methods of the builder interface that cannot be handled, if any.
+     */
+    public void verifyAllMethodsResolved() {
+        dispatchTable.verifyAllMethodsResolved();
+    }
+}
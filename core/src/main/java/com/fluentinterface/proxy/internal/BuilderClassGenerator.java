@@ -0,0 +1,313 @@
+package com.fluentinterface.proxy.internal;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.security.ProtectionDomain;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Generates, at runtime, a concrete class implementing a builder interface as described by its {@link DispatchTable}.
+ * <p>
+ * Every method is implemented directly according to its kind: setters record their single value (without boxing it
+ * when it is of the primitive type of the property), build and constructing methods pass their arguments along and
+ * unresolved methods throw. Default methods are not implemented, so that the ones of the interface are simply
+ * inherited. Generated classes extend {@link GeneratedBuilder}, which
+ * holds the state of the builder.
+ * <p>
+ * Classes are generated once per shape of dispatch table (the kind of each method of the builder interface, and whether
+ * setters write primitive values directly), since they only depend on it, and defined in the package (and class loader)
+ * of the builder interface, so that non-public builder interfaces can be implemented as well.
+ */
+final class BuilderClassGenerator {
+
+    private static final String BASE_CLASS = Type.getInternalName(GeneratedBuilder.class);
+    private static final String CONSTRUCTOR_DESCRIPTOR =
+            Type.getMethodDescriptor(Type.VOID_TYPE, Type.getType(GeneratedBuilder.Configuration.class));
+
+    private static final AtomicInteger classCounter = new AtomicInteger();
+
+    private static final ClassValue<ConcurrentMap<List<Object>, Class<?>>> generatedClasses =
+            new ClassValue<ConcurrentMap<List<Object>, Class<?>>>() {
+                @Override
+                protected ConcurrentMap<List<Object>, Class<?>> computeValue(Class<?> builderInterface) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    private BuilderClassGenerator() {}
+
+    /**
+     * @return the class implementing the builder interface of the provided table, generating it on first use. Its
+     * only constructor takes a {@link GeneratedBuilder.Configuration} created from the same table.
+     */
+    static Class<?> implementationOf(DispatchTable table) {
+        ConcurrentMap<List<Object>, Class<?>> classes = generatedClasses.get(table.getBuilderInterface());
+        List<Object> shape = shapeOf(table);
+
+        Class<?> generated = classes.get(shape);
+        if (generated == null) {
+            generated = classes.computeIfAbsent(shape, s -> generate(table));
+        }
+        return generated;
+    }
+
+    /**
+     * @return what the class generated for the table depends on: the methods of the table, in order, along with their
+     * kind and whether they write a primitive value directly. Unlike the table, it does not refer to its configuration.
+     */
+    private static List<Object> shapeOf(DispatchTable table) {
+        List<Object> shape = new ArrayList<>();
+        for (DispatchTable.BuilderMethod builderMethod : table.getMethods()) {
+            shape.add(builderMethod.method);
+            shape.add(builderMethod.kind);
+            shape.add(builderMethod.primitiveWriter != null);
+        }
+        return shape;
+    }
+
+    private static Class<?> generate(DispatchTable table) {
+        Class<?> builderInterface = table.getBuilderInterface();
+        String className = builderInterface.getName() + "$$FluentBuilder$" + classCounter.incrementAndGet();
+
+        ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        writer.visit(V1_8, ACC_PUBLIC | ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC,
+                     className.replace('.', '/'), null, BASE_CLASS,
+                     new String[]{Type.getInternalName(builderInterface)});
+
+        writeConstructor(writer);
+
+        List<DispatchTable.BuilderMethod> methods = table.getMethods();
+        Set<String> implemented = new HashSet<>();
+        for (int index = 0; index < methods.size(); index++) {
+            DispatchTable.BuilderMethod builderMethod = methods.get(index);
+            Method method = builderMethod.method;
+
+            String descriptor = Type.getMethodDescriptor(method);
+            if (builderMethod.kind == DispatchTable.Kind.DEFAULT || !implemented.add(method.getName() + descriptor)) {
+                continue;
+            }
+
+            MethodVisitor visitor = writer.visitMethod(ACC_PUBLIC, method.getName(), descriptor, null,
+                                                       exceptionsOf(method));
+            visitor.visitCode();
+            writeBody(visitor, builderMethod, index);
+            visitor.visitMaxs(0, 0);
+            visitor.visitEnd();
+        }
+
+        writer.visitEnd();
+
+        return define(builderInterface, writer.toByteArray());
+    }
+
+    private static void writeConstructor(ClassWriter writer) {
+        MethodVisitor visitor = writer.visitMethod(ACC_PUBLIC, "<init>", CONSTRUCTOR_DESCRIPTOR, null, null);
+        visitor.visitCode();
+        visitor.visitVarInsn(ALOAD, 0);
+        visitor.visitVarInsn(ALOAD, 1);
+        visitor.visitMethodInsn(INVOKESPECIAL, BASE_CLASS, "<init>", CONSTRUCTOR_DESCRIPTOR, false);
+        visitor.visitInsn(RETURN);
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
+    }
+
+    private static void writeBody(MethodVisitor visitor, DispatchTable.BuilderMethod builderMethod, int index) {
+        Method method = builderMethod.method;
+
+        switch (builderMethod.kind) {
+            case SETTER:
+                visitor.visitVarInsn(ALOAD, 0);
+                pushInt(visitor, index);
+                if (builderMethod.primitiveWriter != null) {
+                    setPrimitive(visitor, method.getParameterTypes()[0]);
+                } else {
+                    if (method.getParameterCount() == 0) {
+                        visitor.visitInsn(ACONST_NULL);
+                    } else {
+                        loadBoxed(visitor, method.getParameterTypes()[0], 1);
+                    }
+                    visitor.visitMethodInsn(INVOKEVIRTUAL, BASE_CLASS, "$set", "(ILjava/lang/Object;)V", false);
+                }
+                visitor.visitVarInsn(ALOAD, 0);
+                visitor.visitInsn(ARETURN);
+                break;
+
+            case BUILD:
+                visitor.visitVarInsn(ALOAD, 0);
+                loadArgumentsArray(visitor, method);
+                visitor.visitMethodInsn(INVOKEVIRTUAL, BASE_CLASS, "$build", "([Ljava/lang/Object;)Ljava/lang/Object;", false);
+                returnUnboxed(visitor, method.getReturnType());
+                break;
+
+            case CONSTRUCTS:
+                visitor.visitVarInsn(ALOAD, 0);
+                loadArgumentsArray(visitor, method);
+                visitor.visitMethodInsn(INVOKEVIRTUAL, BASE_CLASS, "$construct", "([Ljava/lang/Object;)V", false);
+                visitor.visitVarInsn(ALOAD, 0);
+                visitor.visitInsn(ARETURN);
+                break;
+
+            default:
+                visitor.visitVarInsn(ALOAD, 0);
+                pushInt(visitor, index);
+                visitor.visitMethodInsn(INVOKEVIRTUAL, BASE_CLASS, "$unresolved", "(I)Ljava/lang/RuntimeException;", false);
+                visitor.visitInsn(ATHROW);
+        }
+    }
+
+    /**
+     * Pushes the arguments of the method as an {@code Object[]}, or {@code null} when there are none, which is how
+     * they would be passed to a dynamic proxy.
+     */
+    private static void loadArgumentsArray(MethodVisitor visitor, Method method) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        if (parameterTypes.length == 0) {
+            visitor.visitInsn(ACONST_NULL);
+            return;
+        }
+
+        pushInt(visitor, parameterTypes.length);
+        visitor.visitTypeInsn(ANEWARRAY, "java/lang/Object");
+
+        int slot = 1;
+        for (int i = 0; i < parameterTypes.length; i++) {
+            visitor.visitInsn(DUP);
+            pushInt(visitor, i);
+            loadBoxed(visitor, parameterTypes[i], slot);
+            visitor.visitInsn(AASTORE);
+            slot += Type.getType(parameterTypes[i]).getSize();
+        }
+    }
+
+    /**
+     * Pushes the single primitive argument of a setter widened to a {@code long} or a {@code double}, and calls the
+     * matching {@code $set} method of {@link GeneratedBuilder}, so that it is never boxed.
+     */
+    private static void setPrimitive(MethodVisitor visitor, Class<?> type) {
+        Type asmType = Type.getType(type);
+        visitor.visitVarInsn(asmType.getOpcode(ILOAD), 1);
+
+        if (type == double.class || type == float.class) {
+            if (type == float.class) {
+                visitor.visitInsn(F2D);
+            }
+            visitor.visitMethodInsn(INVOKEVIRTUAL, BASE_CLASS, "$setDouble", "(ID)V", false);
+        } else {
+            if (type != long.class) {
+                visitor.visitInsn(I2L);
+            }
+            visitor.visitMethodInsn(INVOKEVIRTUAL, BASE_CLASS, "$setLong", "(IJ)V", false);
+        }
+    }
+
+    private static void loadBoxed(MethodVisitor visitor, Class<?> type, int slot) {
+        Type asmType = Type.getType(type);
+        visitor.visitVarInsn(asmType.getOpcode(ILOAD), slot);
+
+        if (type.isPrimitive()) {
+            Type boxed = boxedType(asmType);
+            visitor.visitMethodInsn(INVOKESTATIC, boxed.getInternalName(), "valueOf",
+                                    Type.getMethodDescriptor(boxed, asmType), false);
+        }
+    }
+
+    private static void returnUnboxed(MethodVisitor visitor, Class<?> returnType) {
+        Type asmType = Type.getType(returnType);
+
+        if (returnType == void.class) {
+            visitor.visitInsn(POP);
+            visitor.visitInsn(RETURN);
+            return;
+        }
+
+        if (returnType.isPrimitive()) {
+            Type boxed = boxedType(asmType);
+            visitor.visitTypeInsn(CHECKCAST, boxed.getInternalName());
+            visitor.visitMethodInsn(INVOKEVIRTUAL, boxed.getInternalName(), asmType.getClassName() + "Value",
+                                    Type.getMethodDescriptor(asmType), false);
+        } else if (returnType != Object.class) {
+            visitor.visitTypeInsn(CHECKCAST, asmType.getInternalName());
+        }
+        visitor.visitInsn(asmType.getOpcode(IRETURN));
+    }
+
+    private static Type boxedType(Type primitive) {
+        switch (primitive.getSort()) {
+            case Type.BOOLEAN: return Type.getType(Boolean.class);
+            case Type.CHAR: return Type.getType(Character.class);
+            case Type.BYTE: return Type.getType(Byte.class);
+            case Type.SHORT: return Type.getType(Short.class);
+            case Type.INT: return Type.getType(Integer.class);
+            case Type.FLOAT: return Type.getType(Float.class);
+            case Type.LONG: return Type.getType(Long.class);
+            case Type.DOUBLE: return Type.getType(Double.class);
+            default: throw new IllegalArgumentException("Not a primitive type: " + primitive);
+        }
+    }
+
+    private static void pushInt(MethodVisitor visitor, int value) {
+        if (value <= 5) {
+            visitor.visitInsn(ICONST_0 + value);
+        } else if (value <= Byte.MAX_VALUE) {
+            visitor.visitIntInsn(BIPUSH, value);
+        } else {
+            visitor.visitIntInsn(SIPUSH, value);
+        }
+    }
+
+    private static String[] exceptionsOf(Method method) {
+        Class<?>[] exceptionTypes = method.getExceptionTypes();
+        String[] exceptions = new String[exceptionTypes.length];
+        for (int i = 0; i < exceptionTypes.length; i++) {
+            exceptions[i] = Type.getInternalName(exceptionTypes[i]);
+        }
+        return exceptions;
+    }
+
+    /**
+     * Defines the generated class next to the builder interface, using {@code Lookup.defineClass} when running on
+     * Java 9 or later and falling back on {@code ClassLoader.defineClass} on Java 8.
+     */
+    private static Class<?> define(Class<?> builderInterface, byte[] bytecode) {
+        try {
+            Method privateLookupIn = MethodHandles.class.getMethod(
+                    "privateLookupIn", Class.class, MethodHandles.Lookup.class);
+            Object lookup = privateLookupIn.invoke(null, builderInterface, MethodHandles.lookup());
+
+            return (Class<?>) MethodHandles.Lookup.class.getMethod("defineClass", byte[].class)
+                                                        .invoke(lookup, (Object) bytecode);
+        } catch (NoSuchMethodException e) {
+            return defineInClassLoader(builderInterface, bytecode);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException(String.format(
+                    "Could not define a builder implementation for [%s]", builderInterface), e);
+        }
+    }
+
+    private static Class<?> defineInClassLoader(Class<?> builderInterface, byte[] bytecode) {
+        try {
+            Method defineClass = ClassLoader.class.getDeclaredMethod(
+                    "defineClass", String.class, byte[].class, int.class, int.class, ProtectionDomain.class);
+            defineClass.setAccessible(true);
+
+            return (Class<?>) defineClass.invoke(builderInterface.getClassLoader(), null, bytecode, 0, bytecode.length,
+                                                 builderInterface.getProtectionDomain());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(String.format(
+                    "Could not define a builder implementation for [%s]", builderInterface), e);
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package com.fluentinterface.proxy.internal;
+
+import com.fluentinterface.proxy.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * State of a single builder: the values recorded by its setters and the way the target bean will be instantiated.
+ * <p>
+ * This is what both the dynamic proxy and the generated builder implementations delegate to, once they have figured out
+ * which kind of builder method was invoked.
+ * <p>
+ * Values are stored in an array indexed by the slot of their property in the {@link DispatchTable}, along with the
+ * setter that last set each property and a bitmask of the properties that were set. Setting a property again
+ * overwrites its previous value, whichever setter was used, so building costs the same however many times properties
+ * were set. Properties are applied in the order they were first set, so this order is recorded as well.
+ * <p>
+ * Generated builders pass the values of primitive properties as raw bits (see {@link PrimitiveWriters}), which are
+ * kept in a {@code long[]} and written to the built object without ever being boxed.
+ *
+ * @param <T> The type of the built objects.
+ */
+final class BuilderInstance<T> {
+
+    /**
+     * Value of the properties whose value is stored in {@link #primitives}.
+     */
+    static final Object PRIMITIVE = new Object();
+
+    private final DispatchTable dispatchTable;
+    private final Class<T> builtClass;
+    private final BuilderDelegate builderDelegate;
+    private final PropertyAccessStrategy propertyAccessStrategy;
+
+    private final Object[] values;
+    private final DispatchTable.BuilderMethod[] setters;
+    private final long[] setMask;
+    private final int[] setOrder;
+    private int setCount;
+    private long[] primitives;
+    private Instantiator<T> instantiator;
+
+    BuilderInstance(DispatchTable dispatchTable,
+                    Class<T> builtClass,
+                    BuilderDelegate builderDelegate,
+                    PropertyAccessStrategy propertyAccessStrategy,
+                    Instantiator<T> instantiator) {
+
+        this.dispatchTable = dispatchTable;
+        this.builtClass = builtClass;
+        this.builderDelegate = builderDelegate;
+        this.propertyAccessStrategy = propertyAccessStrategy;
+
+        int propertyCount = dispatchTable.getPropertyCount();
+        this.values = new Object[propertyCount];
+        this.setters = new DispatchTable.BuilderMethod[propertyCount];
+        this.setMask = new long[(propertyCount + 63) >>> 6];
+        this.setOrder = new int[propertyCount];
+        this.instantiator = instantiator != null ? instantiator : new EmptyConstructor<>(builtClass);
+    }
+
+    /**
+     * Records the value of a property as passed to one of its setters, replacing any value previously set.
+     */
+    void set(DispatchTable.BuilderMethod setter, Object value) {
+        int slot = setter.slot;
+        markSet(slot);
+        values[slot] = value;
+        setters[slot] = setter;
+    }
+
+    /**
+     * Records the value of a primitive property, as the bits expected by the {@link DispatchTable.BuilderMethod#primitiveWriter}
+     * of the setter, which must not be {@code null}.
+     */
+    void setPrimitive(DispatchTable.BuilderMethod setter, long bits) {
+        if (primitives == null) {
+            primitives = new long[values.length];
+        }
+
+        int slot = setter.slot;
+        markSet(slot);
+        values[slot] = PRIMITIVE;
+        primitives[slot] = bits;
+        setters[slot] = setter;
+    }
+
+    private void markSet(int slot) {
+        if (!isSet(slot)) {
+            setMask[slot >>> 6] |= 1L << slot;
+            setOrder[setCount++] = slot;
+        }
+    }
+
+    private boolean isSet(int slot) {
+        return isIn(setMask, slot);
+    }
+
+    private static boolean isIn(long[] mask, int slot) {
+        return (mask[slot >>> 6] & (1L << slot)) != 0;
+    }
+
+    void construct(Object[] params) {
+        instantiator = new BestMatchingConstructor<>(builtClass, builderDelegate, params);
+    }
+
+    Object build(Object[] params) throws Exception {
+        params = extractVarArgsIfNeeded(params);
+        if (params.length > 0) {
+            buildIfBuilderInstances(params);
+            instantiator = new BestMatchingConstructor<>(builtClass, builderDelegate, params);
+        }
+        return createInstanceFromProperties();
+    }
+
+    private Object createInstanceFromProperties() throws Exception {
+        State state = new State();
+        Object instance = instantiator.instantiate(state);
+
+        if (state.consumed == null) {
+            populate(instance, setMask, setOrder, setCount);
+        } else {
+            populateRemaining(instance, state.consumed);
+        }
+        return instance;
+    }
+
+    /**
+     * Sets the properties that the instantiator did not consume. They are only skipped for the object being built: the
+     * builder keeps their values for the next builds.
+     */
+    private void populateRemaining(Object instance, long[] consumed) throws Exception {
+        int remainingCount = 0;
+        for (int i = 0; i < setCount; i++) {
+            if (!isIn(consumed, setOrder[i])) {
+                remainingCount++;
+            }
+        }
+        if (remainingCount == 0) {
+            return;
+        }
+
+        long[] remainingMask = new long[setMask.length];
+        for (int i = 0; i < setMask.length; i++) {
+            remainingMask[i] = setMask[i] & ~consumed[i];
+        }
+        int[] remainingOrder = new int[remainingCount];
+        for (int i = 0, j = 0; i < setCount; i++) {
+            if (!isIn(consumed, setOrder[i])) {
+                remainingOrder[j++] = setOrder[i];
+            }
+        }
+        populate(instance, remainingMask, remainingOrder, remainingCount);
+    }
+
+    private void populate(Object instance, long[] mask, int[] order, int count) throws Exception {
+        Populators.Populator populator = instance.getClass() == builtClass
+                ? dispatchTable.getPopulators().find(mask, order, count)
+                : null;
+        if (populator != null) {
+            populator.populate(instance, values, setters, primitives);
+            return;
+        }
+
+        PropertyTarget target = dispatchTable.targetFor(propertyAccessStrategy, instance);
+
+        for (int i = 0; i < count; i++) {
+            int slot = order[i];
+            Object value = values[slot];
+
+            if (value == PRIMITIVE) {
+                writePrimitive(setters[slot].primitiveWriter, instance, primitives[slot]);
+            } else {
+                setters[slot].setter.apply(target, value);
+            }
+        }
+    }
+
+    private static void writePrimitive(MethodHandle writer, Object instance, long bits) throws Exception {
+        try {
+            writer.invokeExact(instance, bits);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    /**
+     * @return the value of the property in the slot, boxing it if it is stored as a primitive.
+     */
+    private Object valueOf(int slot) {
+        Object value = values[slot];
+        if (value == PRIMITIVE) {
+            return PrimitiveWriters.fromBits(setters[slot].method.getParameterTypes()[0], primitives[slot]);
+        }
+        return value;
+    }
+
+    private void buildIfBuilderInstances(Object[] params) {
+        BuildWithBuilder builder = new BuildWithBuilder(builderDelegate);
+        for (int i = 0; i < params.length; i++) {
+            params[i] = builder.apply(params[i]);
+        }
+    }
+
+    private Object[] extractVarArgsIfNeeded(Object[] params) {
+        if (params != null
+                && params.length == 1
+                && params[params.length - 1].getClass().isArray()) {
+            return (Object[]) params[params.length - 1];
+        }
+        return params;
+    }
+
+    private class State implements BuilderState {
+
+        private BuildWithBuilder builderConverter;
+        /**
+         * Properties consumed while instantiating the object being built, {@code null} until one is.
+         */
+        private long[] consumed;
+
+        public boolean hasValueFor(String... properties) {
+            return Arrays.stream(properties)
+                         .allMatch(prop -> findSlotOf(prop) >= 0);
+        }
+
+        @SuppressWarnings("unchecked")
+        public <P> Optional<P> peek(String property, Class<P> type) {
+            int slot = findSlotOf(property);
+            if (slot < 0) {
+                return Optional.empty();
+            }
+            return Optional.ofNullable((P) targetValueOf(slot));
+        }
+
+        @SuppressWarnings("unchecked")
+        public <P> Optional<P> consume(String property, Class<P> type) {
+            int slot = findSlotOf(property);
+            if (slot < 0) {
+                return Optional.empty();
+            }
+            if (consumed == null) {
+                consumed = new long[setMask.length];
+            }
+            consumed[slot >>> 6] |= 1L << slot;
+            return Optional.ofNullable((P) targetValueOf(slot));
+        }
+
+        public Object coerce(Object value, Class<?> targetType) {
+            if (builderConverter == null) {
+                builderConverter = new BuildWithBuilder(builderDelegate);
+            }
+            return new CoerceValueConverter(targetType, builderConverter, dispatchTable.getConverter()).apply(value);
+        }
+
+        /**
+         * @return the slot of the property, or -1 if it was not set or was already consumed.
+         */
+        private int findSlotOf(String property) {
+            int slot = dispatchTable.getPropertySlot(property);
+            return slot >= 0 && isSet(slot) && (consumed == null || !isIn(consumed, slot)) ? slot : -1;
+        }
+
+        /**
+         * @return the value of the property in the slot, as its setter would set it on the built object.
+         */
+        private Object targetValueOf(int slot) {
+            return setters[slot].setter.transform(valueOf(slot));
+        }
+    }
+}
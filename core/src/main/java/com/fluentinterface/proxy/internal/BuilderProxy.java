@@ -0,0 +1,89 @@
+package com.fluentinterface.proxy.internal;
+
+import com.fluentinterface.proxy.BuilderDelegate;
+import com.fluentinterface.proxy.Instantiator;
+import com.fluentinterface.proxy.PropertyAccessStrategy;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A dynamic proxy that implements the Builder pattern, building a target bean and setting its properties according
+ * to how the builder method were called.
+ * <p>
+ * The implemented interface should be designed to adhere to the builder pattern, that is:
+ * <p>
+ * 1) Present a series of single-property methods returning the builder instance for chaining calls. Example: {@code <pre>MyBuilder withName(String name)</pre>}
+ * 2) Have a {@code <pre>build()</pre>} method returning the built object.
+ * <p>
+ * For convenience, a generic {@link com.fluentinterface.builder.Builder} interface is provided by the library.
+ *
+ * @param <T> The interface to dynamically implement.
+ */
+public class BuilderProxy<T> implements InvocationHandler {
+
+    private BuilderInstance<T> builder;
+    private DispatchTable dispatchTable;
+    private LongAdder buildCounter;
+
+    public BuilderProxy(Class builderInterface,
+                        Class<T> builtClass,
+                        BuilderDelegate builderDelegate,
+                        PropertyAccessStrategy propertyAccessStrategy,
+                        Instantiator instantiator) {
+
+        this(DispatchTable.forBuilder(builderInterface, builtClass, builderDelegate, propertyAccessStrategy),
+             builtClass, builderDelegate, propertyAccessStrategy, instantiator, null);
+    }
+
+    /**
+     * @param buildCounter incremented every time the builder builds an object, if not {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    BuilderProxy(DispatchTable dispatchTable,
+                 Class<T> builtClass,
+                 BuilderDelegate builderDelegate,
+                 PropertyAccessStrategy propertyAccessStrategy,
+                 Instantiator instantiator,
+                 LongAdder buildCounter) {
+
+        this.builder = new BuilderInstance<>(dispatchTable, builtClass, builderDelegate, propertyAccessStrategy, instantiator);
+        this.dispatchTable = dispatchTable;
+        this.buildCounter = buildCounter;
+    }
+
+    public Object invoke(Object target, Method method, Object[] params) throws Throwable {
+        DispatchTable.BuilderMethod builderMethod = dispatchTable.lookup(method);
+
+        switch (builderMethod.kind) {
+            case SETTER:
+                Object valueForProperty = (params == null || params.length == 0)
+                        ? null : params[0];
+
+                builder.set(builderMethod, valueForProperty);
+
+                return target;
+
+            case BUILD:
+                if (buildCounter != null) {
+                    buildCounter.increment();
+                }
+                return builder.build(params);
+
+            case CONSTRUCTS:
+                builder.construct(params);
+                return target;
+
+            case DEFAULT:
+                return invokeDefaultMethod(target, method, params);
+
+            default:
+                throw builderMethod.unresolvedException();
+        }
+    }
+
+    private Object invokeDefaultMethod(Object target, Method method, Object[] params) throws Throwable {
+        return (Object) DefaultMethodHandles.forMethod(method).invokeExact(target, params);
+    }
+}
@@ -16,10 +16,10 @@ class CoerceValueConverter implements Function {
     private Class targetType;
     private final Function<Object, Object> next;
 
-    CoerceValueConverter(Class targetType, Function<Object, Object> next) {
+    CoerceValueConverter(Class targetType, Function<Object, Object> next, Converter converter) {
         this.targetType = targetType;
         this.next = next;
-        this.converter = new Converter();
+        this.converter = converter;
     }
 
     @SuppressWarnings("unchecked")
@@ -0,0 +1,58 @@
+package com.fluentinterface.proxy.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Resolves the handles used by dynamic proxies to invoke the default methods of builder interfaces.
+ * <p>
+ * A handle is resolved once per default method and cached. It is unbound (the builder instance is passed as its first
+ * argument) and adapted to the {@code (Object, Object[])Object} type, so that it can be invoked exactly whatever the
+ * signature of the method.
+ * <p>
+ * Handles are resolved with a lookup with private access to the builder interface (see {@link PrivateLookups}).
+ */
+final class DefaultMethodHandles {
+
+    static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    private static final ClassValue<ConcurrentMap<Method, MethodHandle>> handles =
+            new ClassValue<ConcurrentMap<Method, MethodHandle>>() {
+                @Override
+                protected ConcurrentMap<Method, MethodHandle> computeValue(Class<?> declaringInterface) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    private DefaultMethodHandles() {}
+
+    /**
+     * @return a handle of type {@link #INVOKER_TYPE} invoking the provided default method on the instance passed as
+     * first argument, with the arguments passed as second argument (which may be {@code null} for no argument).
+     */
+    static MethodHandle forMethod(Method method) {
+        ConcurrentMap<Method, MethodHandle> handlesForInterface = handles.get(method.getDeclaringClass());
+
+        MethodHandle handle = handlesForInterface.get(method);
+        if (handle == null) {
+            handle = handlesForInterface.computeIfAbsent(method, DefaultMethodHandles::resolve);
+        }
+        return handle;
+    }
+
+    private static MethodHandle resolve(Method method) {
+        Class<?> declaringInterface = method.getDeclaringClass();
+        try {
+            MethodHandle special = PrivateLookups.in(declaringInterface).unreflectSpecial(method, declaringInterface);
+
+            return special.asSpreader(Object[].class, method.getParameterCount())
+                          .asType(INVOKER_TYPE);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new IllegalStateException(String.format(
+                    "Could not resolve default method [%s] of builder interface [%s]", method, declaringInterface), e);
+        }
+    }
+}
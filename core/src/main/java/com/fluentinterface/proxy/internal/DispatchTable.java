@@ -0,0 +1,458 @@
+package com.fluentinterface.proxy.internal;
+
+import com.fluentinterface.annotation.Constructs;
+import com.fluentinterface.proxy.BuilderDelegate;
+import com.fluentinterface.proxy.BuilderEngine;
+import com.fluentinterface.beans.PropertyPath;
+import com.fluentinterface.convert.Conversions;
+import com.fluentinterface.convert.Converter;
+import com.fluentinterface.proxy.PropertyAccessStrategy;
+import com.fluentinterface.proxy.PropertySetter;
+import com.fluentinterface.proxy.PropertyTarget;
+import com.fluentinterface.proxy.PropertyWriter;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Immutable result of the analysis of a builder interface: every method of the interface is classified once (setter,
+ * build method, constructing method or default method) and setters are resolved to their {@link PropertySetter}.
+ * <p>
+ * Tables are shared by all the builders implementing the same interface with the same configuration, so that
+ * dispatching a builder method invocation is a single lookup. The tables of configurations made only of
+ * {@link #retain(Object) retained} objects (the built-in strategies and delegate of {@link AbstractBuilderFactory} and
+ * the default conversions) are cached for as long as their builder interface. The tables of other configurations, which may be created for every builder, are
+ * only shared while they are in use, so that discarded configurations can be garbage collected.
+ * <p>
+ * Every property set by the builder interface is given a slot, from 0 to {@link #getPropertyCount()} excluded, which
+ * builders use to store the values of the properties in arrays rather than maps. All the setters of a property share
+ * its slot, so that the last value set wins.
+ * <p>
+ * Properties named after a nested, indexed or mapped pattern (such as {@code "shipping.address.city"}) are written
+ * through a {@link PathPropertyWriter} compiled once per table, rather than through the property access strategy.
+ */
+final class DispatchTable {
+
+    enum Kind {
+        SETTER, BUILD, CONSTRUCTS, DEFAULT, UNRESOLVED
+    }
+
+    private static final ClassValue<Tables> tables = new ClassValue<Tables>() {
+        @Override
+        protected Tables computeValue(Class<?> builderInterface) {
+            return new Tables();
+        }
+    };
+
+    private static final Set<Object> retained =
+            Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+
+    static {
+        retain(Conversions.frozenDefaults());
+    }
+
+    private final Class<?> builderInterface;
+    private final Map<Method, BuilderMethod> methods;
+    private final List<BuilderMethod> declaredMethods;
+    private final List<BuilderMethod> unresolvedMethods;
+    private final Map<String, Integer> propertySlots;
+    private final Map<String, PropertyWriter> pathWriters;
+    private final Populators populators;
+    private final Converter converter;
+    private final AtomicReferenceArray<AbstractBuilderFactory<?>> factories =
+            new AtomicReferenceArray<>(BuilderEngine.values().length);
+
+    private DispatchTable(Class<?> builderInterface,
+                          Class<?> builtClass,
+                          BuilderDelegate builderDelegate,
+                          PropertyAccessStrategy propertyAccessStrategy,
+                          Conversions conversions) {
+
+        Converter converter = new Converter(conversions);
+        PropertySetterFactory setterFactory = new PropertySetterFactory(propertyAccessStrategy, builtClass, builderDelegate,
+                                                                        converter);
+        Map<Method, BuilderMethod> methods = new HashMap<>();
+        List<BuilderMethod> declaredMethods = new ArrayList<>();
+        List<BuilderMethod> unresolvedMethods = new ArrayList<>();
+        Map<String, Integer> propertySlots = new HashMap<>();
+
+        for (Method method : builderInterface.getMethods()) {
+            BuilderMethod builderMethod = analyze(method, builderInterface, builderDelegate, setterFactory, propertySlots);
+            methods.put(method, builderMethod);
+            declaredMethods.add(builderMethod);
+
+            if (builderMethod.kind == Kind.UNRESOLVED) {
+                unresolvedMethods.add(builderMethod);
+            }
+        }
+
+        this.builderInterface = builderInterface;
+        this.converter = converter;
+        this.methods = methods;
+        this.declaredMethods = Collections.unmodifiableList(declaredMethods);
+        this.unresolvedMethods = Collections.unmodifiableList(unresolvedMethods);
+        this.propertySlots = propertySlots;
+
+        String[] properties = new String[propertySlots.size()];
+        Map<String, PropertyWriter> pathWriters = new HashMap<>();
+        propertySlots.forEach((property, slot) -> {
+            properties[slot] = property;
+            if (PropertyPath.isPattern(property)) {
+                pathWriters.put(property, new PathPropertyWriter(builtClass, property));
+            }
+        });
+        this.pathWriters = pathWriters;
+        this.populators = new Populators(builtClass, propertyAccessStrategy, properties, pathWriters);
+    }
+
+    /**
+     * @return the table shared by all builders implementing the provided interface with the same configuration and the
+     * default conversions.
+     */
+    static DispatchTable forBuilder(Class<?> builderInterface,
+                                    Class<?> builtClass,
+                                    BuilderDelegate builderDelegate,
+                                    PropertyAccessStrategy propertyAccessStrategy) {
+
+        return forBuilder(builderInterface, builtClass, builderDelegate, propertyAccessStrategy,
+                          Conversions.frozenDefaults());
+    }
+
+    /**
+     * @param conversions the conversions applied to the values of the properties, which must be frozen.
+     * @return the table shared by all builders implementing the provided interface with the same configuration.
+     */
+    static DispatchTable forBuilder(Class<?> builderInterface,
+                                    Class<?> builtClass,
+                                    BuilderDelegate builderDelegate,
+                                    PropertyAccessStrategy propertyAccessStrategy,
+                                    Conversions conversions) {
+
+        Tables tablesForInterface = tables.get(builderInterface);
+        Key key = new Key(builtClass, builderDelegate, propertyAccessStrategy, conversions);
+        Supplier<DispatchTable> analysis = () -> new DispatchTable(builderInterface, builtClass, builderDelegate,
+                                                                   propertyAccessStrategy, conversions);
+
+        if (retained.contains(builderDelegate) && retained.contains(propertyAccessStrategy)
+                && retained.contains(conversions)) {
+            DispatchTable table = tablesForInterface.retained.get(key);
+            if (table == null) {
+                table = tablesForInterface.retained.computeIfAbsent(key, k -> analysis.get());
+            }
+            return table;
+        }
+        return tablesForInterface.inUse(key, analysis);
+    }
+
+    /**
+     * Marks a built-in configuration object as living as long as the application, so that the tables of the
+     * configurations made only of such objects are cached for as long as their builder interface rather than only while
+     * in use.
+     *
+     * @return the provided object.
+     */
+    static <T> T retain(T component) {
+        retained.add(component);
+        return component;
+    }
+
+    /**
+     * @return the number of tables currently cached for the builder interface, whether retained or in use.
+     */
+    static int cachedTableCount(Class<?> builderInterface) {
+        return tables.get(builderInterface).size();
+    }
+
+    /**
+     * @return how to handle the provided method. Methods that are not part of the builder interface (such as the ones
+     * declared on {@link Object}) are reported as unresolved.
+     */
+    BuilderMethod lookup(Method method) {
+        BuilderMethod builderMethod = methods.get(method);
+        if (builderMethod == null) {
+            return BuilderMethod.unresolved(method, "Unrecognized builder method invocation: " + method);
+        }
+        return builderMethod;
+    }
+
+    Class<?> getBuilderInterface() {
+        return builderInterface;
+    }
+
+    /**
+     * @return the converter applying the conversions of the table, shared by all its setters and builders.
+     */
+    Converter getConverter() {
+        return converter;
+    }
+
+    /**
+     * @return all the methods of the builder interface, always in the same order.
+     */
+    List<BuilderMethod> getMethods() {
+        return declaredMethods;
+    }
+
+    /**
+     * @return the number of distinct properties set by the builder interface.
+     */
+    int getPropertyCount() {
+        return propertySlots.size();
+    }
+
+    /**
+     * @return the slot of the provided property, or -1 if no setter of the builder interface sets it.
+     */
+    int getPropertySlot(String property) {
+        return propertySlots.getOrDefault(property, -1);
+    }
+
+    /**
+     * @return the target setting the properties of the provided instance through the strategy, or through their
+     * {@link PathPropertyWriter} for properties named after a pattern.
+     */
+    PropertyTarget targetFor(PropertyAccessStrategy propertyAccessStrategy, Object instance) {
+        PropertyTarget target = propertyAccessStrategy.targetFor(instance);
+        if (pathWriters.isEmpty()) {
+            return target;
+        }
+
+        return (property, value) -> {
+            PropertyWriter pathWriter = pathWriters.get(property);
+            if (pathWriter != null) {
+                pathWriter.write(instance, value);
+            } else {
+                target.setProperty(property, value);
+            }
+        };
+    }
+
+    /**
+     * @return the factory of the engine shared by the builders using this table and the default instantiator, created
+     * by the provided supplier the first time.
+     */
+    @SuppressWarnings("unchecked")
+    <B> AbstractBuilderFactory<B> sharedFactory(BuilderEngine engine, Supplier<AbstractBuilderFactory<B>> factory) {
+        AbstractBuilderFactory<B> shared = (AbstractBuilderFactory<B>) factories.get(engine.ordinal());
+        if (shared == null) {
+            shared = factory.get();
+            if (!factories.compareAndSet(engine.ordinal(), null, shared)) {
+                shared = (AbstractBuilderFactory<B>) factories.get(engine.ordinal());
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * @return the populators of the objects built with this table.
+     */
+    Populators getPopulators() {
+        return populators;
+    }
+
+    /**
+     * @return all the methods of the builder interface that cannot be handled by the builder.
+     */
+    List<BuilderMethod> getUnresolvedMethods() {
+        return unresolvedMethods;
+    }
+
+    /**
+     * Verifies that every method of the builder interface can be handled by the builder.
+     *
+     * @throws IllegalStateException listing all the methods that would fail when invoked.
+     */
+    void verifyAllMethodsResolved() {
+        if (!unresolvedMethods.isEmpty()) {
+            throw new IllegalStateException(String.format(
+                    "Builder interface [%s] declares methods that cannot be handled:%n%s",
+                    builderInterface.getName(),
+                    unresolvedMethods.stream().map(BuilderMethod::getFailure).collect(joining("\n"))));
+        }
+    }
+
+    private static BuilderMethod analyze(Method method,
+                                         Class<?> builderInterface,
+                                         BuilderDelegate builderDelegate,
+                                         PropertySetterFactory setterFactory,
+                                         Map<String, Integer> propertySlots) {
+        if (method.isDefault()) {
+            return new BuilderMethod(method, Kind.DEFAULT);
+        }
+
+        boolean returnsBuilder = method.getReturnType().isAssignableFrom(builderInterface);
+
+        if (method.getAnnotation(Constructs.class) != null && returnsBuilder) {
+            return new BuilderMethod(method, Kind.CONSTRUCTS);
+        }
+
+        if (isBuildMethod(method, builderDelegate)) {
+            return new BuilderMethod(method, Kind.BUILD);
+        }
+
+        if (returnsBuilder) {
+            try {
+                TransformPropertySetter setter = setterFactory.createPropertySetter(method);
+                int slot = propertySlots.computeIfAbsent(setter.getPropertyName(), property -> propertySlots.size());
+                return new BuilderMethod(method, setter, slot,
+                                         setterFactory.createPrimitiveWriter(method, setter.getPropertyName()));
+            } catch (RuntimeException e) {
+                return BuilderMethod.unresolved(method, String.format(
+                        "Builder method [%s] cannot be used as a property setter: %s", method, e.getMessage()), e);
+            }
+        }
+
+        return BuilderMethod.unresolved(method, "Unrecognized builder method invocation: " + method);
+    }
+
+    private static boolean isBuildMethod(Method method, BuilderDelegate builderDelegate) {
+        if (builderDelegate != null) {
+            return builderDelegate.isBuildMethod(method);
+        }
+        return method.getReturnType() == Object.class;
+    }
+
+    static final class BuilderMethod {
+        final Method method;
+        final Kind kind;
+        final TransformPropertySetter setter;
+        /**
+         * Slot of the property set by the setter, -1 for other kinds of methods.
+         */
+        final int slot;
+        /**
+         * For setters of primitive properties taking a value of the same primitive type, writes the value to built
+         * objects without boxing it (see {@link PrimitiveWriters}). {@code null} otherwise.
+         */
+        final MethodHandle primitiveWriter;
+        private final String failure;
+        private final RuntimeException failureCause;
+
+        private BuilderMethod(Method method, Kind kind) {
+            this.method = method;
+            this.kind = kind;
+            this.setter = null;
+            this.slot = -1;
+            this.primitiveWriter = null;
+            this.failure = null;
+            this.failureCause = null;
+        }
+
+        private BuilderMethod(Method method, TransformPropertySetter setter, int slot, MethodHandle primitiveWriter) {
+            this.method = method;
+            this.kind = Kind.SETTER;
+            this.setter = setter;
+            this.slot = slot;
+            this.primitiveWriter = primitiveWriter;
+            this.failure = null;
+            this.failureCause = null;
+        }
+
+        private BuilderMethod(Method method, String failure, RuntimeException failureCause) {
+            this.method = method;
+            this.kind = Kind.UNRESOLVED;
+            this.setter = null;
+            this.slot = -1;
+            this.primitiveWriter = null;
+            this.failure = failure;
+            this.failureCause = failureCause;
+        }
+
+        private static BuilderMethod unresolved(Method method, String failure) {
+            return new BuilderMethod(method, failure, null);
+        }
+
+        private static BuilderMethod unresolved(Method method, String failure, RuntimeException cause) {
+            return new BuilderMethod(method, failure, cause);
+        }
+
+        /**
+         * @return the reason why this method cannot be handled by the builder, as found during analysis.
+         */
+        String getFailure() {
+            return failure;
+        }
+
+        IllegalStateException unresolvedException() {
+            return new IllegalStateException(failure, failureCause);
+        }
+    }
+
+    /**
+     * Internal: The tables of a builder interface.
+     */
+    private static final class Tables {
+        private final ConcurrentMap<Key, DispatchTable> retained = new ConcurrentHashMap<>();
+        private final Map<Key, WeakReference<DispatchTable>> inUse = new HashMap<>();
+
+        /**
+         * @return the table of the key if it is still in use, or else the result of the analysis, which is kept until
+         * it is no longer used.
+         */
+        private synchronized DispatchTable inUse(Key key, Supplier<DispatchTable> analysis) {
+            WeakReference<DispatchTable> reference = inUse.get(key);
+            DispatchTable table = reference != null ? reference.get() : null;
+            if (table == null) {
+                expunge();
+                table = analysis.get();
+                inUse.put(key, new WeakReference<>(table));
+            }
+            return table;
+        }
+
+        private synchronized int size() {
+            expunge();
+            return retained.size() + inUse.size();
+        }
+
+        private void expunge() {
+            inUse.values().removeIf(reference -> reference.get() == null);
+        }
+    }
+
+    /**
+     * Internal: The configuration of a table, compared by identity. Its objects are only weakly referenced, so that the
+     * key of a table that is no longer in use does not prevent them from being garbage collected.
+     */
+    private static final class Key {
+        private final WeakReference<?>[] components;
+        private final int hashCode;
+
+        Key(Object... components) {
+            this.components = new WeakReference<?>[components.length];
+            int hashCode = 1;
+            for (int i = 0; i < components.length; i++) {
+                this.components[i] = new WeakReference<>(components[i]);
+                hashCode = 31 * hashCode + System.identityHashCode(components[i]);
+            }
+            this.hashCode = hashCode;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            Key other = (Key) o;
+            for (int i = 0; i < components.length; i++) {
+                if (components[i].get() != other.components[i].get()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.fluentinterface.proxy.internal;
+
+import com.fluentinterface.proxy.PropertyAccessStrategy;
+import com.fluentinterface.proxy.PropertyTarget;
+import com.fluentinterface.proxy.PropertyWriter;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Strategy that sets the target bean's attributes directly using the Reflection API (without going through the setters).
+ * It automatically goes up the class hierarchy to find fields in inherited classes as well, through
+ * {@link #findFieldFromAncestors(Class, String)}. The fields declared by each class are indexed once, so that looking
+ * a field up does not go through the exceptions thrown by {@link Class#getDeclaredField(String)}.
+ * <p>
+ * Each field is resolved once per class into a method handle, which is made accessible when it is resolved and
+ * cached, so that setting a property does neither look up the field nor change its accessibility.
+ */
+public class FieldPropertyAccessStrategy implements PropertyAccessStrategy {
+
+    /**
+     * Type of the cached handles: {@code (Object target, Object value)void}.
+     */
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final MethodHandle FIELD_SET;
+
+    static {
+        try {
+            FIELD_SET = MethodHandles.lookup().findVirtual(Field.class, "set", SETTER_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Fields declared by each class by name. Synthetic fields (such as references to enclosing instances) are left out.
+     */
+    private static final ClassValue<Map<String, Field>> declaredFields = new ClassValue<Map<String, Field>>() {
+        @Override
+        protected Map<String, Field> computeValue(Class<?> clazz) {
+            return indexDeclaredFields(clazz);
+        }
+    };
+
+    private final ClassValue<ConcurrentMap<String, MethodHandle>> setters =
+            new ClassValue<ConcurrentMap<String, MethodHandle>>() {
+                @Override
+                protected ConcurrentMap<String, MethodHandle> computeValue(Class<?> targetClass) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    public boolean hasProperty(Class<?> builtClass, String property) {
+
+        Field field = getFieldFromClass(builtClass, property);
+
+        return field != null;
+    }
+
+    public Class getPropertyType(Class targetClass, String property) {
+        if (targetClass == null) {
+            return null;
+        }
+
+        Field field = getFieldFromClass(targetClass, property);
+        if (field == null) {
+            throw new IllegalStateException(String.format("No property named '%s' was found on class %s", property, targetClass));
+        }
+        return field.getType();
+    }
+
+    public void setPropertyValue(Object target, String property, Object value) throws Exception {
+        Class<?> targetClass = target.getClass();
+
+        set(setterFor(targetClass, setters.get(targetClass), property), target, value);
+    }
+
+    /**
+     * Resolves the fields of the class of the instance once, rather than on every property set, unless this strategy is
+     * subclassed: subclasses may override {@link #setPropertyValue(Object, String, Object)}.
+     */
+    @Override
+    public PropertyTarget targetFor(Object instance) {
+        if (getClass() != FieldPropertyAccessStrategy.class) {
+            return PropertyAccessStrategy.super.targetFor(instance);
+        }
+        Class<?> targetClass = instance.getClass();
+        ConcurrentMap<String, MethodHandle> settersOfClass = setters.get(targetClass);
+
+        return (property, value) -> set(setterFor(targetClass, settersOfClass, property), instance, value);
+    }
+
+    /**
+     * Resolves the field once, unless this strategy is subclassed: subclasses may override
+     * {@link #setPropertyValue(Object, String, Object)}, which is then called for every write.
+     */
+    @Override
+    public PropertyWriter writerFor(Class<?> targetClass, String property) {
+        if (getClass() != FieldPropertyAccessStrategy.class) {
+            return PropertyAccessStrategy.super.writerFor(targetClass, property);
+        }
+        MethodHandle setter = setterFor(targetClass, setters.get(targetClass), property);
+
+        return (target, value) -> set(setter, target, value);
+    }
+
+    private static void set(MethodHandle setter, Object target, Object value) throws Exception {
+        try {
+            setter.invokeExact(target, value);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    private MethodHandle setterFor(Class<?> targetClass, Map<String, MethodHandle> settersOfClass, String property) {
+        MethodHandle setter = settersOfClass.get(property);
+        if (setter == null) {
+            setter = settersOfClass.computeIfAbsent(property, p -> resolveSetter(targetClass, p).asType(SETTER_TYPE));
+        }
+        return setter;
+    }
+
+    /**
+     * @return a handle setting the field backing the property of objects of the class, typed after the class declaring
+     * the field and the type of the field, or {@code null} if there is no such field.
+     */
+    MethodHandle findSetter(Class<?> targetClass, String property) {
+        Field field = getFieldFromClass(targetClass, property);
+        if (field == null) {
+            return null;
+        }
+
+        field.setAccessible(true);
+        try {
+            return MethodHandles.lookup().unreflectSetter(field);
+        } catch (IllegalAccessException e) {
+            // final fields can only be set through reflection, on the field that was made accessible
+            return FIELD_SET.bindTo(field).asType(
+                    MethodType.methodType(void.class, field.getDeclaringClass(), field.getType()));
+        }
+    }
+
+    private MethodHandle resolveSetter(Class<?> targetClass, String property) {
+        MethodHandle setter = findSetter(targetClass, property);
+        if (setter == null) {
+            throw new IllegalStateException(String.format("No property named '%s' was found on class %s", property, targetClass));
+        }
+        return setter;
+    }
+
+    /**
+     * @return the field named after the property in the class or its ancestors, or {@code null} if there is none.
+     */
+    protected Field getFieldFromClass(Class<?> clazz, String fieldName) {
+        Field field = declaredFields.get(clazz).get(fieldName);
+        if (field != null) {
+            return field;
+        }
+        return findFieldFromAncestors(clazz, fieldName);
+    }
+
+    protected Field findFieldFromAncestors(Class<?> clazz, String fieldName) {
+        Class<?> parent = clazz.getSuperclass();
+
+        if (parent == null || parent == Object.class) {
+            return null;
+        }
+        return getFieldFromClass(parent, fieldName);
+    }
+
+    private static Map<String, Field> indexDeclaredFields(Class<?> clazz) {
+        Map<String, Field> fields = new HashMap<>();
+        for (Field field : clazz.getDeclaredFields()) {
+            if (!field.isSynthetic()) {
+                fields.put(field.getName(), field);
+            }
+        }
+        return Collections.unmodifiableMap(fields);
+    }
+}
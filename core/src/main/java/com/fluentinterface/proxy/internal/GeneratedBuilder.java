@@ -0,0 +1,95 @@
+package com.fluentinterface.proxy.internal;
+
+import com.fluentinterface.proxy.BuilderDelegate;
+import com.fluentinterface.proxy.Instantiator;
+import com.fluentinterface.proxy.PropertyAccessStrategy;
+
+import java.lang.reflect.UndeclaredThrowableException;
+
+/**
+ * Base class of the builder implementations generated at runtime by {@link BuilderClassGenerator}.
+ * <p>
+ * Each generated method calls one of the methods of this class directly, passing the index of the builder method in
+ * the {@link DispatchTable} the class was generated from when needed. These methods are prefixed with {@code $} so
+ * that they cannot clash with the methods of the builder interface. Generated classes are defined in the package of
+ * their builder interface, which is why this class is public: it is not meant to be used directly.
+ */
+public abstract class GeneratedBuilder {
+
+    private final DispatchTable.BuilderMethod[] methods;
+    private final BuilderInstance<?> builder;
+
+    protected GeneratedBuilder(Configuration configuration) {
+        this.methods = configuration.methods;
+        this.builder = configuration.newBuilderInstance();
+    }
+
+    protected final void $set(int method, Object value) {
+        builder.set(methods[method], value);
+    }
+
+    /**
+     * Sets a primitive property of integral, {@code char} or {@code boolean} type, widened to a {@code long}.
+     */
+    protected final void $setLong(int method, long value) {
+        builder.setPrimitive(methods[method], value);
+    }
+
+    /**
+     * Sets a primitive property of {@code float} or {@code double} type, widened to a {@code double}.
+     */
+    protected final void $setDouble(int method, double value) {
+        builder.setPrimitive(methods[method], Double.doubleToRawLongBits(value));
+    }
+
+    protected final void $construct(Object[] params) {
+        builder.construct(params);
+    }
+
+    protected final Object $build(Object[] params) {
+        try {
+            return builder.build(params);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            // what a dynamic proxy would throw for a checked exception not declared by the build method
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    protected final RuntimeException $unresolved(int method) {
+        return methods[method].unresolvedException();
+    }
+
+    /**
+     * Everything a generated builder needs to know about how it was configured, shared by all the builders created
+     * from the same factory.
+     */
+    public static final class Configuration {
+        private final DispatchTable dispatchTable;
+        private final DispatchTable.BuilderMethod[] methods;
+        private final Class<?> builtClass;
+        private final BuilderDelegate builderDelegate;
+        private final PropertyAccessStrategy propertyAccessStrategy;
+        private final Instantiator instantiator;
+
+        Configuration(DispatchTable dispatchTable,
+                      Class<?> builtClass,
+                      BuilderDelegate builderDelegate,
+                      PropertyAccessStrategy propertyAccessStrategy,
+                      Instantiator instantiator) {
+
+            this.dispatchTable = dispatchTable;
+            this.methods = dispatchTable.getMethods().toArray(new DispatchTable.BuilderMethod[0]);
+            this.builtClass = builtClass;
+            this.builderDelegate = builderDelegate;
+            this.propertyAccessStrategy = propertyAccessStrategy;
+            this.instantiator = instantiator;
+        }
+
+        @SuppressWarnings("unchecked")
+        private BuilderInstance<?> newBuilderInstance() {
+            return new BuilderInstance<>(dispatchTable, builtClass, builderDelegate, propertyAccessStrategy, instantiator);
+        }
+    }
+}
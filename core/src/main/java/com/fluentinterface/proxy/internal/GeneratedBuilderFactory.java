@@ -0,0 +1,70 @@
+package com.fluentinterface.proxy.internal;
+
+import com.fluentinterface.convert.Conversions;
+import com.fluentinterface.proxy.BuilderDelegate;
+import com.fluentinterface.proxy.Instantiator;
+import com.fluentinterface.proxy.PropertyAccessStrategy;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Creates instances of a builder class generated at runtime for the builder interface (see
+ * {@link BuilderClassGenerator}). The class is generated when the factory is created and reused by all the factories
+ * sharing the same configuration.
+ * <p>
+ * Requires the <a href="https://asm.ow2.io/">ASM</a> library on the classpath.
+ *
+ * @param <B> the builder interface
+ */
+public class GeneratedBuilderFactory<B> extends AbstractBuilderFactory<B> {
+
+    private final GeneratedBuilder.Configuration configuration;
+    private final MethodHandle constructor;
+
+    public GeneratedBuilderFactory(Class<B> builderInterface,
+                                   Class<?> builtClass,
+                                   BuilderDelegate builderDelegate,
+                                   PropertyAccessStrategy propertyAccessStrategy,
+                                   Instantiator instantiator,
+                                   Conversions conversions) {
+
+        super(builderInterface, builtClass, builderDelegate, propertyAccessStrategy, instantiator, conversions);
+
+        this.configuration = new GeneratedBuilder.Configuration(dispatchTable, builtClass, builderDelegate,
+                                                                propertyAccessStrategy, this.instantiator);
+        try {
+            this.constructor = MethodHandles.lookup()
+                                            .findConstructor(generateImplementation(builderInterface),
+                                                             MethodType.methodType(void.class, GeneratedBuilder.Configuration.class))
+                                            .asType(MethodType.methodType(GeneratedBuilder.class, GeneratedBuilder.Configuration.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException(String.format(
+                    "Could not find the constructor of the generated builder class for [%s]", builderInterface), e);
+        }
+    }
+
+    private Class<?> generateImplementation(Class<B> builderInterface) {
+        try {
+            return BuilderClassGenerator.implementationOf(dispatchTable);
+        } catch (NoClassDefFoundError e) {
+            throw new IllegalStateException(String.format(
+                    "Generating a builder class for [%s] requires the ASM library (org.ow2.asm:asm) on the classpath",
+                    builderInterface), e);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public B create() {
+        try {
+            return (B) (GeneratedBuilder) constructor.invokeExact(configuration);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(String.format(
+                    "Could not instantiate generated builder for [%s]", dispatchTable.getBuilderInterface()), e);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.fluentinterface.proxy.internal;
+
+import com.fluentinterface.beans.reflect.Bean;
+import com.fluentinterface.beans.reflect.Property;
+import com.fluentinterface.proxy.PropertyAccessStrategy;
+import com.fluentinterface.proxy.PropertyTarget;
+import com.fluentinterface.proxy.PropertyWriter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A strategy that chooses how to set each property of a class: through its public setter when it has one (called like
+ * {@link LambdaSetterPropertyAccessStrategy} does), or else directly through its field (like
+ * {@link FieldPropertyAccessStrategy} does, whatever the modifier of the field).
+ * <p>
+ * The choice is made once per class and property, and the resulting {@link PropertyWriter} cached, so that setting a
+ * property does not check again which accessors are available.
+ */
+public class HybridPropertyAccessStrategy implements PropertyAccessStrategy {
+
+    private final LambdaSetterPropertyAccessStrategy setters = new LambdaSetterPropertyAccessStrategy();
+    private final FieldPropertyAccessStrategy fields = new FieldPropertyAccessStrategy();
+
+    private final ClassValue<ConcurrentMap<String, PropertyWriter>> writers =
+            new ClassValue<ConcurrentMap<String, PropertyWriter>>() {
+                @Override
+                protected ConcurrentMap<String, PropertyWriter> computeValue(Class<?> targetClass) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    public Class getPropertyType(Class<?> targetClass, String property) {
+        PropertyAccessStrategy strategy = targetClass != null ? strategyFor(targetClass, property) : null;
+
+        return strategy != null ? strategy.getPropertyType(targetClass, property) : null;
+    }
+
+    public void setPropertyValue(Object target, String property, Object value) throws Exception {
+        Class<?> targetClass = target.getClass();
+
+        writerFor(targetClass, writers.get(targetClass), property).write(target, value);
+    }
+
+    /**
+     * Resolves the writers of the class of the instance once, rather than on every property set, unless this strategy
+     * is subclassed: subclasses may override {@link #setPropertyValue(Object, String, Object)}.
+     */
+    @Override
+    public PropertyTarget targetFor(Object instance) {
+        if (getClass() != HybridPropertyAccessStrategy.class) {
+            return PropertyAccessStrategy.super.targetFor(instance);
+        }
+        Class<?> targetClass = instance.getClass();
+        ConcurrentMap<String, PropertyWriter> writersOfClass = writers.get(targetClass);
+
+        return (property, value) -> writerFor(targetClass, writersOfClass, property).write(instance, value);
+    }
+
+    /**
+     * Returns the writer chosen for the property, unless this strategy is subclassed: subclasses may override
+     * {@link #setPropertyValue(Object, String, Object)}.
+     */
+    @Override
+    public PropertyWriter writerFor(Class<?> targetClass, String property) {
+        if (getClass() != HybridPropertyAccessStrategy.class) {
+            return PropertyAccessStrategy.super.writerFor(targetClass, property);
+        }
+        return writerFor(targetClass, writers.get(targetClass), property);
+    }
+
+    private PropertyWriter writerFor(Class<?> targetClass, Map<String, PropertyWriter> writersOfClass, String property) {
+        PropertyWriter writer = writersOfClass.get(property);
+        if (writer == null) {
+            writer = writersOfClass.computeIfAbsent(property, p -> resolveWriter(targetClass, p));
+        }
+        return writer;
+    }
+
+    private PropertyWriter resolveWriter(Class<?> targetClass, String property) {
+        PropertyAccessStrategy strategy = strategyFor(targetClass, property);
+        if (strategy == null) {
+            throw new IllegalStateException(String.format(
+                    "No public setter nor field named '%s' was found on class %s", property, targetClass));
+        }
+        return strategy.writerFor(targetClass, property);
+    }
+
+    /**
+     * @return the strategy setting the property of objects of the class, or {@code null} if the property has neither a
+     * public setter nor a field.
+     */
+    PropertyAccessStrategy strategyFor(Class<?> targetClass, String property) {
+        Property beanProperty = Bean.forClass(targetClass).getProperty(property);
+        if (beanProperty != null && beanProperty.isWritable()) {
+            return setters;
+        }
+        return fields.hasProperty(targetClass, property) ? fields : null;
+    }
+}
@@ -0,0 +1,122 @@
+package com.fluentinterface.proxy.internal;
+
+import com.fluentinterface.beans.ObjectWrapper;
+import com.fluentinterface.beans.reflect.Bean;
+import com.fluentinterface.beans.reflect.Property;
+import com.fluentinterface.proxy.PropertyAccessStrategy;
+import com.fluentinterface.proxy.PropertyTarget;
+import com.fluentinterface.proxy.PropertyWriter;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+
+/**
+ * A strategy that uses public setters to set target bean properties, like {@link SetterPropertyAccessStrategy}, but
+ * calls them through accessors resolved once per class and property instead of reflection.
+ * <p>
+ * Accessors are {@link BiConsumer} implementations spun with {@link LambdaMetafactory}, so that calling a setter
+ * costs about as much as a direct call once inlined. When that is not possible (for instance when the bean class
+ * belongs to a module that is not open to this library), the setter is called through reflection, but is still
+ * resolved only once.
+ * <p>
+ * Accessors are cached per class, in a way that does not prevent classes from being unloaded.
+ */
+public class LambdaSetterPropertyAccessStrategy implements PropertyAccessStrategy {
+
+    private static final MethodType ACCESSOR_FACTORY_TYPE = MethodType.methodType(BiConsumer.class);
+    private static final MethodType ACCESSOR_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<ConcurrentMap<String, BiConsumer<Object, Object>>> accessors =
+            new ClassValue<ConcurrentMap<String, BiConsumer<Object, Object>>>() {
+                @Override
+                protected ConcurrentMap<String, BiConsumer<Object, Object>> computeValue(Class<?> targetClass) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    public Class getPropertyType(Class<?> targetClass, String property) {
+        return Optional.ofNullable(ObjectWrapper.getProperty(Bean.forClass(targetClass), property)).map(Property::getType).orElse(null);
+    }
+
+    public void setPropertyValue(Object target, String property, Object value) {
+        accessorFor(target.getClass(), accessors.get(target.getClass()), property).accept(target, value);
+    }
+
+    /**
+     * Resolves the accessors of the class of the instance once, rather than on every property set, unless this
+     * strategy is subclassed: subclasses may override {@link #setPropertyValue(Object, String, Object)}.
+     */
+    @Override
+    public PropertyTarget targetFor(Object instance) {
+        if (getClass() != LambdaSetterPropertyAccessStrategy.class) {
+            return PropertyAccessStrategy.super.targetFor(instance);
+        }
+        Class<?> targetClass = instance.getClass();
+        ConcurrentMap<String, BiConsumer<Object, Object>> accessorsOfClass = accessors.get(targetClass);
+
+        return (property, value) -> accessorFor(targetClass, accessorsOfClass, property).accept(instance, value);
+    }
+
+    /**
+     * Resolves the setter once, unless this strategy is subclassed: subclasses may override
+     * {@link #setPropertyValue(Object, String, Object)}, which is then called for every write.
+     */
+    @Override
+    public PropertyWriter writerFor(Class<?> targetClass, String property) {
+        if (getClass() != LambdaSetterPropertyAccessStrategy.class) {
+            return PropertyAccessStrategy.super.writerFor(targetClass, property);
+        }
+        return accessorFor(targetClass, accessors.get(targetClass), property)::accept;
+    }
+
+    private static BiConsumer<Object, Object> accessorFor(Class<?> targetClass,
+                                                          Map<String, BiConsumer<Object, Object>> accessorsOfClass,
+                                                          String property) {
+        BiConsumer<Object, Object> accessor = accessorsOfClass.get(property);
+        if (accessor == null) {
+            accessor = accessorsOfClass.computeIfAbsent(property, p -> createAccessor(targetClass, p));
+        }
+        return accessor;
+    }
+
+    private static BiConsumer<Object, Object> createAccessor(Class<?> targetClass, String propertyName) {
+        Property property = ObjectWrapper.getProperty(Bean.forClass(targetClass), propertyName);
+        if (property == null || !property.isWritable()) {
+            throw new IllegalStateException(String.format(
+                    "No writable property named '%s' was found on class %s", propertyName, targetClass));
+        }
+
+        try {
+            return spinAccessor(property.getWriteMethod());
+        } catch (Throwable e) {
+            // not accessible to LambdaMetafactory, but still resolved once
+            return property::set;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object> spinAccessor(Method writeMethod) throws Throwable {
+        Class<?> declaringClass = writeMethod.getDeclaringClass();
+        MethodHandles.Lookup lookup = PrivateLookups.in(declaringClass);
+        MethodHandle setter = lookup.unreflect(writeMethod);
+
+        CallSite site = LambdaMetafactory.metafactory(
+                lookup,
+                "accept",
+                ACCESSOR_FACTORY_TYPE,
+                ACCESSOR_TYPE,
+                setter,
+                setter.type().wrap().changeReturnType(void.class));
+
+        return (BiConsumer<Object, Object>) site.getTarget().invoke();
+    }
+}
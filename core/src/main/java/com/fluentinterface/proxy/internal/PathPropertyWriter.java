@@ -0,0 +1,37 @@
+package com.fluentinterface.proxy.internal;
+
+import com.fluentinterface.beans.ObjectWrapper;
+import com.fluentinterface.beans.PropertyNotFoundException;
+import com.fluentinterface.beans.PropertyPath;
+import com.fluentinterface.proxy.PropertyWriter;
+
+/**
+ * Writes a nested, indexed or mapped property of built objects, such as {@code @Sets(property = "shipping.address.city")},
+ * the same way {@link ObjectWrapper#setValue(String, Object)} does: through the public getters and setters of the
+ * properties it traverses, instancing the intermediate objects that are {@code null}.
+ * <p>
+ * The pattern is compiled once into a {@link PropertyPath}, whatever the property access strategy of the builder.
+ */
+final class PathPropertyWriter implements PropertyWriter {
+
+    private final String pattern;
+    private final PropertyPath path;
+
+    /**
+     * @param builtClass the class of the built objects, or {@code null} if only known when writing.
+     */
+    PathPropertyWriter(Class<?> builtClass, String pattern) {
+        this.pattern = pattern;
+        this.path = builtClass != null ? PropertyPath.compile(builtClass, pattern) : null;
+    }
+
+    @Override
+    public void write(Object target, Object value) {
+        PropertyPath path = this.path != null ? this.path : PropertyPath.compile(target.getClass(), pattern);
+        try {
+            new ObjectWrapper(target).setValue(path, value);
+        } catch (PropertyNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.fluentinterface.proxy.internal;
+
+import com.fluentinterface.proxy.PropertyAccessStrategy;
+import com.fluentinterface.proxy.PropertyWriter;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Compiles and caches the populators of the objects built by the builders sharing a {@link DispatchTable}.
+ * <p>
+ * A populator applies the values of a given sequence of properties to a built object in a single call: the
+ * {@link PropertyWriter} of each property is resolved once, and the writes are chained into one method handle in which
+ * every writer is a constant, so that the JVM can inline them rather than dispatching every write through the
+ * {@link com.fluentinterface.proxy.PropertySetter}, {@link com.fluentinterface.proxy.PropertyTarget} and strategy
+ * interfaces.
+ * <p>
+ * Populators are looked up by the bitmask of the properties that were set, and by the order in which they were set,
+ * so that builders used the same way always get the same fully specialized populator. Only a limited number of them
+ * are compiled per table: builders used in more ways than that, or setting more than 64 distinct properties, fall back
+ * to applying properties one at a time.
+ */
+final class Populators {
+
+    static final int MAX_POPULATORS = 32;
+
+    private static final MethodType POPULATE_TYPE = MethodType.methodType(
+            void.class, Object.class, Object[].class, DispatchTable.BuilderMethod[].class, long[].class);
+
+    private static final MethodHandle WRITE_SLOT;
+    private static final MethodHandle NOTHING;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            WRITE_SLOT = lookup.findStatic(Populators.class, "writeSlot",
+                                           POPULATE_TYPE.insertParameterTypes(0, PropertyWriter.class, int.class));
+            NOTHING = lookup.findStatic(Populators.class, "nothing", POPULATE_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Class<?> builtClass;
+    private final PropertyAccessStrategy propertyAccessStrategy;
+    private final String[] properties;
+    private final Map<String, PropertyWriter> pathWriters;
+    private final PropertyWriter[] writers;
+
+    private volatile Populator[] populators = new Populator[0];
+
+    /**
+     * @param properties  the properties of the table, indexed by slot.
+     * @param pathWriters the writers of the properties named after a pattern, which the strategy does not write.
+     */
+    Populators(Class<?> builtClass,
+               PropertyAccessStrategy propertyAccessStrategy,
+               String[] properties,
+               Map<String, PropertyWriter> pathWriters) {
+        this.builtClass = builtClass;
+        this.propertyAccessStrategy = propertyAccessStrategy;
+        this.properties = properties;
+        this.pathWriters = pathWriters;
+        this.writers = new PropertyWriter[properties.length];
+    }
+
+    /**
+     * @return the populator applying the properties in the slots of {@code setOrder}, in that order, to objects of the
+     * built class, or {@code null} if properties must be applied one at a time.
+     */
+    Populator find(long[] setMask, int[] setOrder, int setCount) {
+        if (setMask.length != 1 || builtClass == null) {
+            return null;
+        }
+
+        long mask = setMask[0];
+        Populator[] populators = this.populators;
+        for (Populator populator : populators) {
+            if (populator.mask == mask && populator.appliesTo(setOrder, setCount)) {
+                return populator;
+            }
+        }
+
+        return populators.length < MAX_POPULATORS ? compile(mask, setOrder, setCount) : null;
+    }
+
+    private synchronized Populator compile(long mask, int[] setOrder, int setCount) {
+        for (Populator populator : populators) {
+            if (populator.mask == mask && populator.appliesTo(setOrder, setCount)) {
+                return populator;
+            }
+        }
+        if (populators.length >= MAX_POPULATORS) {
+            return null;
+        }
+
+        int[] order = Arrays.copyOf(setOrder, setCount);
+        MethodHandle populate = NOTHING;
+        try {
+            for (int i = order.length - 1; i >= 0; i--) {
+                MethodHandle write = MethodHandles.insertArguments(WRITE_SLOT, 0, writerOf(order[i]), order[i]);
+                populate = MethodHandles.foldArguments(populate, write);
+            }
+        } catch (RuntimeException e) {
+            // the property cannot be set: let it fail the usual way
+            return null;
+        }
+
+        Populator populator = new Populator(mask, order, populate);
+        Populator[] populators = Arrays.copyOf(this.populators, this.populators.length + 1);
+        populators[populators.length - 1] = populator;
+        this.populators = populators;
+        return populator;
+    }
+
+    private PropertyWriter writerOf(int slot) {
+        PropertyWriter writer = writers[slot];
+        if (writer == null) {
+            writer = pathWriters.get(properties[slot]);
+            if (writer == null) {
+                writer = propertyAccessStrategy.writerFor(builtClass, properties[slot]);
+            }
+            writers[slot] = writer;
+        }
+        return writer;
+    }
+
+    private static void writeSlot(PropertyWriter writer,
+                                  int slot,
+                                  Object instance,
+                                  Object[] values,
+                                  DispatchTable.BuilderMethod[] setters,
+                                  long[] primitives) throws Throwable {
+        Object value = values[slot];
+        if (value == BuilderInstance.PRIMITIVE) {
+            setters[slot].primitiveWriter.invokeExact(instance, primitives[slot]);
+        } else {
+            writer.write(instance, setters[slot].setter.transform(value));
+        }
+    }
+
+    private static void nothing(Object instance,
+                                Object[] values,
+                                DispatchTable.BuilderMethod[] setters,
+                                long[] primitives) {
+    }
+
+    static final class Populator {
+        private final long mask;
+        private final int[] order;
+        private final MethodHandle populate;
+
+        private Populator(long mask, int[] order, MethodHandle populate) {
+            this.mask = mask;
+            this.order = order;
+            this.populate = populate;
+        }
+
+        private boolean appliesTo(int[] setOrder, int setCount) {
+            if (order.length != setCount) {
+                return false;
+            }
+            for (int i = 0; i < setCount; i++) {
+                if (order[i] != setOrder[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Writes the values of the properties, as recorded by a builder, to the built object.
+         */
+        void populate(Object instance,
+                      Object[] values,
+                      DispatchTable.BuilderMethod[] setters,
+                      long[] primitives) throws Exception {
+            try {
+                populate.invokeExact(instance, values, setters, primitives);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new UndeclaredThrowableException(e);
+            }
+        }
+    }
+}
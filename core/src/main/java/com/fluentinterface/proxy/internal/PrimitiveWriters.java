@@ -0,0 +1,135 @@
+package com.fluentinterface.proxy.internal;
+
+import com.fluentinterface.beans.ObjectWrapper;
+import com.fluentinterface.beans.reflect.Bean;
+import com.fluentinterface.beans.reflect.Property;
+import com.fluentinterface.proxy.PropertyAccessStrategy;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+
+/**
+ * Creates handles writing primitive properties of built objects without boxing their values.
+ * <p>
+ * Primitive values of any type are passed to the handles as a {@code long}: integral types, {@code char} and
+ * {@code boolean} (0 or 1) are widened to a {@code long}, while {@code float} and {@code double} values are passed as
+ * the raw bits of a {@code double} (see {@link Double#doubleToRawLongBits(double)}).
+ * <p>
+ * Only the strategies provided by the library are supported, and not their subclasses, since the handles bypass
+ * {@link PropertyAccessStrategy#setPropertyValue(Object, String, Object)}.
+ */
+final class PrimitiveWriters {
+
+    /**
+     * Type of all the handles: {@code (Object target, long bits)void}.
+     */
+    static final MethodType WRITER_TYPE = MethodType.methodType(void.class, Object.class, long.class);
+
+    private static final MethodHandle LONG_BITS_TO_DOUBLE;
+    private static final MethodHandle LONG_BITS_TO_FLOAT;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            LONG_BITS_TO_DOUBLE = lookup.findStatic(Double.class, "longBitsToDouble",
+                                                    MethodType.methodType(double.class, long.class));
+            LONG_BITS_TO_FLOAT = lookup.findStatic(PrimitiveWriters.class, "longBitsToFloat",
+                                                   MethodType.methodType(float.class, long.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private PrimitiveWriters() {}
+
+    /**
+     * @return a handle of type {@link #WRITER_TYPE} setting the property of objects of the built class, or {@code null}
+     * if the property is not of the provided primitive type or cannot be written directly with this strategy.
+     */
+    static MethodHandle forProperty(PropertyAccessStrategy strategy,
+                                    Class<?> builtClass,
+                                    String property,
+                                    Class<?> primitiveType) {
+        if (builtClass == null || !primitiveType.isPrimitive()) {
+            return null;
+        }
+
+        // subclasses of the strategies of the library may override how properties are set: their values are boxed
+        if (strategy.getClass() == HybridPropertyAccessStrategy.class) {
+            strategy = ((HybridPropertyAccessStrategy) strategy).strategyFor(builtClass, property);
+        }
+
+        try {
+            MethodHandle writer = null;
+            if (strategy == null) {
+                return null;
+            } else if (strategy.getClass() == SetterPropertyAccessStrategy.class
+                    || strategy.getClass() == LambdaSetterPropertyAccessStrategy.class) {
+                writer = setterOf(builtClass, property, primitiveType);
+            } else if (strategy.getClass() == FieldPropertyAccessStrategy.class) {
+                writer = fieldOf((FieldPropertyAccessStrategy) strategy, builtClass, property, primitiveType);
+            }
+            return writer != null ? adapt(writer, primitiveType) : null;
+        } catch (IllegalAccessException | RuntimeException e) {
+            // not accessible without reflection, keep boxing values
+            return null;
+        }
+    }
+
+    private static MethodHandle setterOf(Class<?> builtClass, String property, Class<?> primitiveType)
+            throws IllegalAccessException {
+        Property beanProperty = ObjectWrapper.getProperty(Bean.forClass(builtClass), property);
+        if (beanProperty == null || beanProperty.getType() != primitiveType) {
+            return null;
+        }
+
+        Method writeMethod = beanProperty.getWriteMethod();
+        if (writeMethod == null) {
+            return null;
+        }
+        writeMethod.setAccessible(true);
+        return MethodHandles.lookup().unreflect(writeMethod);
+    }
+
+    private static MethodHandle fieldOf(FieldPropertyAccessStrategy strategy,
+                                        Class<?> builtClass,
+                                        String property,
+                                        Class<?> primitiveType) {
+        MethodHandle setter = strategy.findSetter(builtClass, property);
+        if (setter == null || setter.type().parameterType(1) != primitiveType) {
+            return null;
+        }
+        return setter;
+    }
+
+    private static MethodHandle adapt(MethodHandle writer, Class<?> primitiveType) {
+        if (primitiveType == double.class) {
+            writer = MethodHandles.filterArguments(writer, 1, LONG_BITS_TO_DOUBLE);
+        } else if (primitiveType == float.class) {
+            writer = MethodHandles.filterArguments(writer, 1, LONG_BITS_TO_FLOAT);
+        }
+        // narrowing long to int, short, byte or char, and to boolean by keeping the lowest bit
+        return MethodHandles.explicitCastArguments(writer, WRITER_TYPE);
+    }
+
+    private static float longBitsToFloat(long bits) {
+        return (float) Double.longBitsToDouble(bits);
+    }
+
+    /**
+     * @return the boxed value of the provided type represented by the bits.
+     */
+    static Object fromBits(Class<?> primitiveType, long bits) {
+        if (primitiveType == int.class) return (int) bits;
+        if (primitiveType == long.class) return bits;
+        if (primitiveType == double.class) return Double.longBitsToDouble(bits);
+        if (primitiveType == float.class) return longBitsToFloat(bits);
+        if (primitiveType == boolean.class) return bits != 0;
+        if (primitiveType == char.class) return (char) bits;
+        if (primitiveType == short.class) return (short) bits;
+        if (primitiveType == byte.class) return (byte) bits;
+        throw new IllegalArgumentException("Not a primitive type: " + primitiveType);
+    }
+}
@@ -0,0 +1,52 @@
+package com.fluentinterface.proxy.internal;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+
+/**
+ * Provides lookups with private access to arbitrary classes, as needed to invoke default methods of builder interfaces
+ * or to spin accessors of built classes.
+ * <p>
+ * How to obtain them depends on the JVM: it is decided once, using {@code MethodHandles.privateLookupIn} on Java 9 and
+ * later (looked up reflectively, since the library targets Java 8), and the private constructor of
+ * {@link MethodHandles.Lookup} on Java 8.
+ */
+final class PrivateLookups {
+
+    private static final PrivateLookup privateLookup = resolvePrivateLookup();
+
+    private PrivateLookups() {}
+
+    /**
+     * @return a lookup with private access to the provided class.
+     * @throws ReflectiveOperationException if such a lookup cannot be obtained, for instance because the class is in a
+     *                                      module that is not open to the library.
+     */
+    static MethodHandles.Lookup in(Class<?> type) throws ReflectiveOperationException {
+        return privateLookup.in(type);
+    }
+
+    private static PrivateLookup resolvePrivateLookup() {
+        try {
+            Method privateLookupIn = MethodHandles.class.getMethod(
+                    "privateLookupIn", Class.class, MethodHandles.Lookup.class);
+
+            return type -> (MethodHandles.Lookup) privateLookupIn.invoke(null, type, MethodHandles.lookup());
+        } catch (NoSuchMethodException e) {
+            return PrivateLookups::java8PrivateLookup;
+        }
+    }
+
+    private static MethodHandles.Lookup java8PrivateLookup(Class<?> type) throws ReflectiveOperationException {
+        Constructor<MethodHandles.Lookup> constructor =
+                MethodHandles.Lookup.class.getDeclaredConstructor(Class.class, int.class);
+        constructor.setAccessible(true);
+
+        return constructor.newInstance(type, MethodHandles.Lookup.PRIVATE);
+    }
+
+    private interface PrivateLookup {
+        MethodHandles.Lookup in(Class<?> type) throws ReflectiveOperationException;
+    }
+}
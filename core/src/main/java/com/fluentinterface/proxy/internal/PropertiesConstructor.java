@@ -0,0 +1,203 @@
+package com.fluentinterface.proxy.internal;
+
+import com.fluentinterface.annotation.CanonicalConstructor;
+import com.fluentinterface.proxy.BuilderState;
+import com.fluentinterface.proxy.Instantiator;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Optional;
+
+import static com.fluentinterface.utils.TypeConversionUtils.translateFromPrimitive;
+
+/**
+ * Instantiates objects by calling a constructor taking the values of all their properties: the canonical constructor of
+ * records, or the constructor annotated with {@link CanonicalConstructor}.
+ * <p>
+ * The values of the properties passed to the constructor are consumed from the builder state, so that only the
+ * remaining properties (if any) are set afterwards on the object being built. The builder keeps all its values, so that
+ * it can be used to build more objects. Properties that were not set are passed as {@code null}, or as the
+ * default value of their type for primitive parameters.
+ * <p>
+ * The constructor is resolved once per built class, and invoked through a method handle.
+ */
+final class PropertiesConstructor<T> implements Instantiator<T> {
+
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    private static final ClassValue<Optional<PropertiesConstructor<?>>> constructors =
+            new ClassValue<Optional<PropertiesConstructor<?>>>() {
+                @Override
+                protected Optional<PropertiesConstructor<?>> computeValue(Class<?> builtClass) {
+                    return Optional.ofNullable(resolve(builtClass));
+                }
+            };
+
+    private static final Records records = Records.resolve();
+
+    private final String[] properties;
+    private final Class<?>[] types;
+    private final Class<?>[] boxedTypes;
+    private final Object[] defaults;
+    private final MethodHandle constructor;
+
+    private PropertiesConstructor(Constructor<T> constructor, String[] properties) throws IllegalAccessException {
+        this.properties = properties;
+        this.types = constructor.getParameterTypes();
+        this.boxedTypes = new Class<?>[types.length];
+        this.defaults = new Object[types.length];
+        for (int i = 0; i < types.length; i++) {
+            boxedTypes[i] = translateFromPrimitive(types[i]);
+            if (types[i].isPrimitive()) {
+                defaults[i] = Array.get(Array.newInstance(types[i], 1), 0);
+            }
+        }
+
+        constructor.setAccessible(true);
+        this.constructor = MethodHandles.lookup().unreflectConstructor(constructor)
+                                        .asSpreader(Object[].class, types.length)
+                                        .asType(INVOKER_TYPE);
+    }
+
+    /**
+     * @return the instantiator of objects of the built class, if it is a record or has a constructor annotated with
+     * {@link CanonicalConstructor}, or {@code null} otherwise.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> PropertiesConstructor<T> forClass(Class<T> builtClass) {
+        return (PropertiesConstructor<T>) constructors.get(builtClass).orElse(null);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public T instantiate(BuilderState state) throws Exception {
+        Object[] params = new Object[properties.length];
+        for (int i = 0; i < properties.length; i++) {
+            Object value = state.consume(properties[i], Object.class).orElse(null);
+            if (value == null) {
+                params[i] = defaults[i];
+            } else if (boxedTypes[i].isInstance(value)) {
+                params[i] = value;
+            } else {
+                params[i] = state.coerce(value, types[i]);
+            }
+        }
+
+        try {
+            return (T) constructor.invokeExact(params);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> PropertiesConstructor<T> resolve(Class<T> builtClass) {
+        try {
+            if (records.isRecord(builtClass)) {
+                return new PropertiesConstructor<>(builtClass.getDeclaredConstructor(records.componentTypes(builtClass)),
+                                                   records.componentNames(builtClass));
+            }
+
+            Constructor<T> annotated = null;
+            for (Constructor<?> constructor : builtClass.getDeclaredConstructors()) {
+                if (constructor.isAnnotationPresent(CanonicalConstructor.class)) {
+                    if (annotated != null) {
+                        throw new IllegalStateException(String.format(
+                                "Only one constructor of class [%s] can be annotated with @%s",
+                                builtClass, CanonicalConstructor.class.getSimpleName()));
+                    }
+                    annotated = (Constructor<T>) constructor;
+                }
+            }
+            return annotated != null ? new PropertiesConstructor<>(annotated, propertiesOf(annotated)) : null;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(String.format(
+                    "Could not resolve the canonical constructor of class [%s]", builtClass), e);
+        }
+    }
+
+    private static String[] propertiesOf(Constructor<?> constructor) {
+        String[] properties = constructor.getAnnotation(CanonicalConstructor.class).value();
+        if (properties.length == 0 && constructor.getParameterCount() > 0) {
+            Parameter[] parameters = constructor.getParameters();
+            properties = new String[parameters.length];
+            for (int i = 0; i < parameters.length; i++) {
+                if (!parameters[i].isNamePresent()) {
+                    throw new IllegalStateException(String.format(
+                            "The names of the properties of constructor [%s] must be listed in its @%s annotation, " +
+                                    "unless its class is compiled with the -parameters option",
+                            constructor, CanonicalConstructor.class.getSimpleName()));
+                }
+                properties[i] = parameters[i].getName();
+            }
+        }
+
+        if (properties.length != constructor.getParameterCount()) {
+            throw new IllegalStateException(String.format(
+                    "Constructor [%s] takes %s parameters but its @%s annotation lists %s properties",
+                    constructor, constructor.getParameterCount(), CanonicalConstructor.class.getSimpleName(),
+                    properties.length));
+        }
+        return properties;
+    }
+
+    /**
+     * Support of records, which is looked up reflectively since the library targets Java 8.
+     */
+    private static final class Records {
+        private final Method isRecord;
+        private final Method getRecordComponents;
+        private final Method getName;
+        private final Method getType;
+
+        private Records(Method isRecord, Method getRecordComponents, Method getName, Method getType) {
+            this.isRecord = isRecord;
+            this.getRecordComponents = getRecordComponents;
+            this.getName = getName;
+            this.getType = getType;
+        }
+
+        static Records resolve() {
+            try {
+                Class<?> recordComponent = Class.forName("java.lang.reflect.RecordComponent");
+                return new Records(Class.class.getMethod("isRecord"),
+                                   Class.class.getMethod("getRecordComponents"),
+                                   recordComponent.getMethod("getName"),
+                                   recordComponent.getMethod("getType"));
+            } catch (ClassNotFoundException | NoSuchMethodException e) {
+                // no records before Java 16
+                return new Records(null, null, null, null);
+            }
+        }
+
+        boolean isRecord(Class<?> type) throws ReflectiveOperationException {
+            return isRecord != null && (Boolean) isRecord.invoke(type);
+        }
+
+        String[] componentNames(Class<?> record) throws ReflectiveOperationException {
+            Object[] components = (Object[]) getRecordComponents.invoke(record);
+            String[] names = new String[components.length];
+            for (int i = 0; i < components.length; i++) {
+                names[i] = (String) getName.invoke(components[i]);
+            }
+            return names;
+        }
+
+        Class<?>[] componentTypes(Class<?> record) throws ReflectiveOperationException {
+            Object[] components = (Object[]) getRecordComponents.invoke(record);
+            Class<?>[] types = new Class<?>[components.length];
+            for (int i = 0; i < components.length; i++) {
+                types[i] = (Class<?>) getType.invoke(components[i]);
+            }
+            return types;
+        }
+    }
+}
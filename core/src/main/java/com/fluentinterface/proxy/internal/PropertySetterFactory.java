@@ -1,10 +1,12 @@
 package com.fluentinterface.proxy.internal;
 
 import com.fluentinterface.annotation.Sets;
+import com.fluentinterface.beans.PropertyPath;
+import com.fluentinterface.convert.Converter;
 import com.fluentinterface.proxy.BuilderDelegate;
 import com.fluentinterface.proxy.PropertyAccessStrategy;
-import com.fluentinterface.proxy.PropertySetter;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
 import java.util.function.Function;
 import java.util.regex.Matcher;
@@ -16,17 +18,20 @@ class PropertySetterFactory {
     private PropertyAccessStrategy propertyAccessStrategy;
     private Class<?> builtClass;
     private BuilderDelegate builderDelegate;
+    private Converter converter;
 
     PropertySetterFactory(PropertyAccessStrategy propertyAccessStrategy,
                           Class<?> builtClass,
-                          BuilderDelegate builderDelegate) {
+                          BuilderDelegate builderDelegate,
+                          Converter converter) {
 
         this.propertyAccessStrategy = propertyAccessStrategy;
         this.builtClass = builtClass;
         this.builderDelegate = builderDelegate;
+        this.converter = converter;
     }
 
-    PropertySetter createPropertySetter(Method setterMethod) {
+    TransformPropertySetter createPropertySetter(Method setterMethod) {
         String propertyName = getPropertyName(setterMethod);
 
         if (propertyName != null && !propertyName.isEmpty()) {
@@ -38,24 +43,47 @@ class PropertySetterFactory {
                 "Method [%s] does not seem to represent a setter for a property", setterMethod.getName()));
     }
 
+    /**
+     * @return a handle writing the property directly from its primitive value (see {@link PrimitiveWriters}) when the
+     * setter method takes a single primitive argument that needs no conversion, {@code null} otherwise.
+     */
+    MethodHandle createPrimitiveWriter(Method setterMethod, String propertyName) {
+        Sets setsAnnotation = setterMethod.getAnnotation(Sets.class);
+        if (setterMethod.getParameterCount() != 1
+                || (setsAnnotation != null && !setsAnnotation.via().equals(Sets.NotSet.class))
+                || PropertyPath.isPattern(propertyName)) {
+            return null;
+        }
+        return PrimitiveWriters.forProperty(propertyAccessStrategy, builtClass, propertyName,
+                                            setterMethod.getParameterTypes()[0]);
+    }
+
     private Function getValueConverter(Method method, String targetProperty) {
         Sets setsAnnotation = method.getAnnotation(Sets.class);
         if (setsAnnotation != null) {
-            return createConverterFromAnnotation(setsAnnotation, targetProperty);
+            return createConverterFromAnnotation(method, setsAnnotation, targetProperty);
         } else {
-            return createDefaultConverter(targetProperty);
+            return createDefaultConverter(method, targetProperty);
         }
     }
 
-    private Function createDefaultConverter(String targetProperty) {
-        Class<?> targetClass = propertyAccessStrategy.getPropertyType(builtClass, targetProperty);
-        return new CoerceValueConverter(targetClass, new BuildWithBuilder(builderDelegate));
+    /**
+     * @return the default coercion of the values of the property, or {@code null} when the setter method takes a
+     * single value of the primitive type of the property, which is set as it is.
+     */
+    private Function createDefaultConverter(Method method, String targetProperty) {
+        Class<?> targetClass = getPropertyType(targetProperty);
+        if (targetClass != null && targetClass.isPrimitive()
+                && method.getParameterCount() == 1 && method.getParameterTypes()[0] == targetClass) {
+            return null;
+        }
+        return new CoerceValueConverter(targetClass, new BuildWithBuilder(builderDelegate), converter);
     }
 
-    private Function createConverterFromAnnotation(Sets setsAnnotation, String targetProperty) {
+    private Function createConverterFromAnnotation(Method method, Sets setsAnnotation, String targetProperty) {
         Class<? extends Function> valueConverterClass = setsAnnotation.via();
         if (valueConverterClass.equals(Sets.NotSet.class)) {
-            return createDefaultConverter(targetProperty);
+            return createDefaultConverter(method, targetProperty);
         }
 
         try {
@@ -65,6 +93,13 @@ class PropertySetterFactory {
         }
     }
 
+    private Class<?> getPropertyType(String targetProperty) {
+        if (PropertyPath.isPattern(targetProperty)) {
+            return builtClass != null ? PropertyPath.compile(builtClass, targetProperty).getPropertyType() : null;
+        }
+        return propertyAccessStrategy.getPropertyType(builtClass, targetProperty);
+    }
+
     private String getPropertyName(Method method) {
         String propertyName = null;
 
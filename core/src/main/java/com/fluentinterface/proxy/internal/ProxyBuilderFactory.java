@@ -0,0 +1,64 @@
+package com.fluentinterface.proxy.internal;
+
+import com.fluentinterface.convert.Conversions;
+import com.fluentinterface.proxy.BuilderDelegate;
+import com.fluentinterface.proxy.Instantiator;
+import com.fluentinterface.proxy.PropertyAccessStrategy;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Creates {@link BuilderProxy} instances from a fully resolved configuration: the builder interface analysis and the
+ * proxy class constructor are looked up once, when the factory is created.
+ *
+ * @param <B> the builder interface
+ */
+public class ProxyBuilderFactory<B> extends AbstractBuilderFactory<B> {
+
+    private final Constructor<?> proxyConstructor;
+
+    @SuppressWarnings("deprecation")
+    public ProxyBuilderFactory(Class<B> builderInterface,
+                               Class<?> builtClass,
+                               BuilderDelegate builderDelegate,
+                               PropertyAccessStrategy propertyAccessStrategy,
+                               Instantiator instantiator,
+                               Conversions conversions) {
+
+        super(builderInterface, builtClass, builderDelegate, propertyAccessStrategy, instantiator, conversions);
+
+        try {
+            this.proxyConstructor = Proxy.getProxyClass(builderInterface.getClassLoader(), builderInterface)
+                                         .getConstructor(InvocationHandler.class);
+            // proxies of non-public interfaces are themselves non-public
+            this.proxyConstructor.setAccessible(true);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(String.format(
+                    "Could not find the constructor of the dynamic proxy class for [%s]", builderInterface), e);
+        }
+    }
+
+    @Override
+    public B create() {
+        return create(null);
+    }
+
+    /**
+     * @param buildCounter incremented every time the created builder builds an object, if not {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    B create(LongAdder buildCounter) {
+        BuilderProxy<?> handler = new BuilderProxy<>(dispatchTable, builtClass, builderDelegate,
+                                                     propertyAccessStrategy, instantiator, buildCounter);
+        try {
+            return (B) proxyConstructor.newInstance(handler);
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException(String.format(
+                    "Could not instantiate dynamic proxy for [%s]", dispatchTable.getBuilderInterface()), e);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.fluentinterface.beans.PropertyNotFoundException;
 import com.fluentinterface.beans.reflect.Bean;
 import com.fluentinterface.beans.reflect.Property;
 import com.fluentinterface.proxy.PropertyAccessStrategy;
+import com.fluentinterface.proxy.PropertyWriter;
 
 import java.util.Optional;
 
@@ -25,4 +26,20 @@ public class SetterPropertyAccessStrategy implements PropertyAccessStrategy {
         }
     }
 
+    /**
+     * Resolves the property once, unless this strategy is subclassed: subclasses may override
+     * {@link #setPropertyValue(Object, String, Object)}, which is then called for every write.
+     */
+    @Override
+    public PropertyWriter writerFor(Class<?> targetClass, String property) {
+        if (getClass() != SetterPropertyAccessStrategy.class) {
+            return PropertyAccessStrategy.super.writerFor(targetClass, property);
+        }
+        Property resolved = Bean.forClass(targetClass).getProperty(property);
+        if (resolved == null) {
+            throw new IllegalStateException(String.format("No property named '%s' was found on class %s", property, targetClass));
+        }
+        return resolved::set;
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,131 @@
+package com.fluentinterface.proxy.internal;
+
+import com.fluentinterface.convert.Conversions;
+import com.fluentinterface.proxy.BuilderDelegate;
+import com.fluentinterface.proxy.Instantiator;
+import com.fluentinterface.proxy.PropertyAccessStrategy;
+import com.fluentinterface.proxy.TierListener;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Creates dynamic proxies (see {@link ProxyBuilderFactory}) until the builders of the builder interface have built a
+ * given number of objects, then creates instances of a generated builder class (see {@link GeneratedBuilderFactory}).
+ * <p>
+ * Builds are counted per builder interface and configuration, so that all the factories sharing a configuration
+ * (including the ones created by {@link com.fluentinterface.ReflectionBuilder#create()}) contribute to the same count.
+ * Counts are kept for as long as the {@link DispatchTable} of the configuration, and do not prevent it from being
+ * garbage collected.
+ * Builders that were already created are not affected by the transition.
+ *
+ * @param <B> the builder interface
+ */
+public class TieredBuilderFactory<B> extends AbstractBuilderFactory<B> {
+
+    public static final long DEFAULT_THRESHOLD = 1000;
+
+    private static final ClassValue<Map<DispatchTable, Usage>> usages =
+            new ClassValue<Map<DispatchTable, Usage>>() {
+                @Override
+                protected Map<DispatchTable, Usage> computeValue(Class<?> builderInterface) {
+                    return Collections.synchronizedMap(new WeakHashMap<>());
+                }
+            };
+
+    private final Class<B> builderInterface;
+    private final long threshold;
+    private final TierListener listener;
+    private final Usage usage;
+    private final ProxyBuilderFactory<B> proxies;
+
+    private volatile GeneratedBuilderFactory<B> generated;
+    private volatile boolean generationFailed;
+
+    public TieredBuilderFactory(Class<B> builderInterface,
+                                Class<?> builtClass,
+                                BuilderDelegate builderDelegate,
+                                PropertyAccessStrategy propertyAccessStrategy,
+                                Instantiator instantiator,
+                                Conversions conversions,
+                                long threshold,
+                                TierListener listener) {
+
+        super(builderInterface, builtClass, builderDelegate, propertyAccessStrategy, instantiator, conversions);
+
+        if (threshold < 0) {
+            throw new IllegalArgumentException("Tier threshold cannot be negative: " + threshold);
+        }
+
+        this.builderInterface = builderInterface;
+        this.threshold = threshold;
+        this.listener = listener;
+        this.usage = usageOf(dispatchTable);
+        this.proxies = new ProxyBuilderFactory<>(builderInterface, builtClass, builderDelegate,
+                                                 propertyAccessStrategy, instantiator, this.conversions);
+    }
+
+    private static Usage usageOf(DispatchTable table) {
+        return usages.get(table.getBuilderInterface()).computeIfAbsent(table, t -> new Usage());
+    }
+
+    @Override
+    public B create() {
+        GeneratedBuilderFactory<B> generated = this.generated;
+        if (generated != null) {
+            return generated.create();
+        }
+
+        if (!generationFailed && (usage.promoted.get() || usage.builds.sum() >= threshold)) {
+            generated = promote();
+            if (generated != null) {
+                return generated.create();
+            }
+        }
+
+        return proxies.create(usage.builds);
+    }
+
+    private synchronized GeneratedBuilderFactory<B> promote() {
+        if (generated != null || generationFailed) {
+            return generated;
+        }
+
+        try {
+            generated = new GeneratedBuilderFactory<>(builderInterface, builtClass, builderDelegate,
+                                                      propertyAccessStrategy, instantiator, conversions);
+        } catch (IllegalStateException e) {
+            // the generated class is an optimization: stay on dynamic proxies
+            generationFailed = true;
+            return null;
+        }
+
+        if (usage.promoted.compareAndSet(false, true) && listener != null) {
+            listener.promoted(builderInterface, usage.builds.sum());
+        }
+        return generated;
+    }
+
+    /**
+     * @return the number of objects built by dynamic proxies of the builder interface with this configuration, by
+     * this factory or any other.
+     */
+    public long getBuildCount() {
+        return usage.builds.sum();
+    }
+
+    /**
+     * @return whether this factory now creates instances of a generated class.
+     */
+    public boolean isPromoted() {
+        return generated != null;
+    }
+
+    private static final class Usage {
+        final LongAdder builds = new LongAdder();
+        final AtomicBoolean promoted = new AtomicBoolean();
+    }
+}
@@ -8,6 +8,9 @@ import java.util.function.Function;
 class TransformPropertySetter implements PropertySetter {
 
     private String property;
+    /**
+     * {@code null} when values are set as they are.
+     */
     private Function transformFunction;
 
     TransformPropertySetter(String property, Function transformFunction) {
@@ -23,7 +26,15 @@ class TransformPropertySetter implements PropertySetter {
     @Override
     @SuppressWarnings("unchecked")
     public void apply(PropertyTarget target, Object value) throws Exception {
-        Object valueToSet = transformFunction.apply(value);
+        Object valueToSet = transform(value);
         target.setProperty(property, valueToSet);
     }
+
+    /**
+     * @return the value to set on the target property, converted from the value passed to the builder method.
+     */
+    @SuppressWarnings("unchecked")
+    Object transform(Object value) {
+        return transformFunction != null ? transformFunction.apply(value) : value;
+    }
 }
@@ -2,14 +2,19 @@ package com.fluentinterface;
 
 import com.fluentinterface.examples.Person;
 import com.fluentinterface.examples.PersonBuilder;
+import com.fluentinterface.proxy.BuilderEngine;
 import com.fluentinterface.proxy.PropertyAccessStrategy;
 import com.fluentinterface.proxy.internal.FieldPropertyAccessStrategy;
+import com.fluentinterface.proxy.internal.HybridPropertyAccessStrategy;
+import com.fluentinterface.proxy.internal.LambdaSetterPropertyAccessStrategy;
 import com.fluentinterface.proxy.internal.SetterPropertyAccessStrategy;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
 
 import static com.fluentinterface.ReflectionBuilder.implementationFor;
 import static java.util.Arrays.asList;
@@ -22,23 +27,30 @@ import static org.junit.Assert.assertThat;
 @RunWith(Parameterized.class)
 public class BuilderProxyTest {
 
-    @Parameterized.Parameters
-    public static Iterable<Object[]> strategies() {
-        return asList(
-                new Object[] {new FieldPropertyAccessStrategy()},
-                new Object[] {new SetterPropertyAccessStrategy()}
-        );
+    @Parameterized.Parameters(name = "{index}: {1}")
+    public static Iterable<Object[]> strategiesAndEngines() {
+        List<Object[]> parameters = new ArrayList<>();
+        for (BuilderEngine engine : BuilderEngine.values()) {
+            parameters.add(new Object[] {new FieldPropertyAccessStrategy(), engine});
+            parameters.add(new Object[] {new SetterPropertyAccessStrategy(), engine});
+            parameters.add(new Object[] {new LambdaSetterPropertyAccessStrategy(), engine});
+            parameters.add(new Object[] {new HybridPropertyAccessStrategy(), engine});
+        }
+        return parameters;
     }
 
     private PropertyAccessStrategy propertyAccessStrategy;
+    private BuilderEngine engine;
 
-    public BuilderProxyTest(PropertyAccessStrategy propertyAccessStrategy) {
+    public BuilderProxyTest(PropertyAccessStrategy propertyAccessStrategy, BuilderEngine engine) {
         this.propertyAccessStrategy = propertyAccessStrategy;
+        this.engine = engine;
     }
 
     private PersonBuilder aPerson() {
         return implementationFor(PersonBuilder.class)
                 .usingAttributeAccessStrategy(propertyAccessStrategy)
+                .usingEngine(engine)
                 .create();
     }
 
@@ -100,6 +112,20 @@ public class BuilderProxyTest {
         assertThat(built.getAge(), is(20));
     }
 
+    @Test
+    public void shouldSetPropertyValueToLastOneWhenSetWithDifferentMethods() {
+        Person built = aPerson()
+                .withName("John")
+                .named("Jane")
+                .withName("Joe")
+                .withAge(10)
+                .withAge("20")
+                .build();
+
+        assertThat(built.getName(), is("Joe"));
+        assertThat(built.getAge(), is(20));
+    }
+
     @Test
     public void shouldSetPropertyValueArrayToList() {
         Person built = aPerson()
@@ -0,0 +1,202 @@
+package com.fluentinterface;
+
+import com.fluentinterface.annotation.CanonicalConstructor;
+import com.fluentinterface.builder.Builder;
+import com.fluentinterface.proxy.BuilderEngine;
+import com.fluentinterface.proxy.PropertyAccessStrategy;
+import com.fluentinterface.proxy.internal.FieldPropertyAccessStrategy;
+import com.fluentinterface.proxy.internal.HybridPropertyAccessStrategy;
+import com.fluentinterface.proxy.internal.LambdaSetterPropertyAccessStrategy;
+import com.fluentinterface.proxy.internal.SetterPropertyAccessStrategy;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.fluentinterface.ReflectionBuilder.implementationFor;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+@RunWith(Parameterized.class)
+public class CanonicalConstructorTest {
+
+    @Parameterized.Parameters(name = "{index}: {1}")
+    public static Iterable<Object[]> strategiesAndEngines() {
+        List<Object[]> parameters = new ArrayList<>();
+        for (BuilderEngine engine : BuilderEngine.values()) {
+            parameters.add(new Object[] {new FieldPropertyAccessStrategy(), engine});
+            parameters.add(new Object[] {new SetterPropertyAccessStrategy(), engine});
+            parameters.add(new Object[] {new LambdaSetterPropertyAccessStrategy(), engine});
+            parameters.add(new Object[] {new HybridPropertyAccessStrategy(), engine});
+        }
+        return parameters;
+    }
+
+    private PropertyAccessStrategy propertyAccessStrategy;
+    private BuilderEngine engine;
+
+    public CanonicalConstructorTest(PropertyAccessStrategy propertyAccessStrategy, BuilderEngine engine) {
+        this.propertyAccessStrategy = propertyAccessStrategy;
+        this.engine = engine;
+    }
+
+    private <B> B aBuilder(Class<B> builderInterface) {
+        return implementationFor(builderInterface)
+                .usingAttributeAccessStrategy(propertyAccessStrategy)
+                .usingEngine(engine)
+                .create();
+    }
+
+    @Test
+    public void shouldBuildImmutableObjectThroughItsCanonicalConstructor() {
+        Contact contact = aBuilder(ContactBuilder.class)
+                .withName("John")
+                .withAge(44)
+                .build();
+
+        assertThat(contact.getName(), is("John"));
+        assertThat(contact.getAge(), is(44));
+        assertThat(contact.getConstructions(), is(1));
+    }
+
+    @Test
+    public void shouldPassDefaultValuesForPropertiesThatWereNotSet() {
+        Contact contact = aBuilder(ContactBuilder.class).build();
+
+        assertThat(contact.getName(), is(nullValue()));
+        assertThat(contact.getAge(), is(0));
+        assertThat(contact.getPartner(), is(nullValue()));
+    }
+
+    @Test
+    public void shouldConvertValuesAndBuildBuildersPassedToConstructor() {
+        Contact contact = aBuilder(ContactBuilder.class)
+                .withAge("44")
+                .withPartner(aBuilder(ContactBuilder.class).withName("Jane"))
+                .build();
+
+        assertThat(contact.getAge(), is(44));
+        assertThat(contact.getPartner().getName(), is("Jane"));
+    }
+
+    @Test
+    public void shouldSetRemainingPropertiesAfterConstruction() {
+        Contact contact = aBuilder(ContactBuilder.class)
+                .withName("John")
+                .withNickname("Johnny")
+                .build();
+
+        assertThat(contact.getName(), is("John"));
+        assertThat(contact.getNickname(), is("Johnny"));
+    }
+
+    @Test
+    public void shouldKeepValuesPassedToConstructorWhenBuilderIsReused() {
+        ContactBuilder builder = aBuilder(ContactBuilder.class)
+                .withName("John")
+                .withNickname("Johnny");
+
+        for (int age = 0; age < 3; age++) {
+            Contact contact = builder.withAge(age).build();
+
+            assertThat(contact.getName(), is("John"));
+            assertThat(contact.getAge(), is(age));
+            assertThat(contact.getNickname(), is("Johnny"));
+            assertThat(contact.getConstructions(), is(1));
+        }
+    }
+
+    @Test
+    public void shouldBuildTwiceFromSameBuilderThroughCanonicalConstructor() {
+        ContactBuilder builder = aBuilder(ContactBuilder.class)
+                .withName("John")
+                .withAge(44)
+                .withPartner(aBuilder(ContactBuilder.class).withName("Jane"))
+                .withNickname("Johnny");
+
+        Contact first = builder.build();
+        Contact second = builder.build();
+
+        for (Contact contact : new Contact[] {first, second}) {
+            assertThat(contact.getName(), is("John"));
+            assertThat(contact.getAge(), is(44));
+            assertThat(contact.getPartner().getName(), is("Jane"));
+            assertThat(contact.getNickname(), is("Johnny"));
+            assertThat(contact.getConstructions(), is(1));
+        }
+        assertThat(second, is(not(sameInstance(first))));
+        assertThat(second.getPartner(), is(not(sameInstance(first.getPartner()))));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldFailWhenAnnotationDoesNotListAllConstructorParameters() {
+        aBuilder(MisannotatedBuilder.class);
+    }
+
+    public interface ContactBuilder extends Builder<Contact> {
+        ContactBuilder withName(String name);
+        ContactBuilder withAge(int age);
+        ContactBuilder withAge(String age);
+        ContactBuilder withPartner(ContactBuilder partner);
+        ContactBuilder withNickname(String nickname);
+    }
+
+    public static class Contact {
+        private final String name;
+        private final int age;
+        private final Contact partner;
+        private final int constructions;
+        private String nickname;
+
+        public Contact() {
+            this(null, -1, null);
+        }
+
+        @CanonicalConstructor({"name", "age", "partner"})
+        private Contact(String name, int age, Contact partner) {
+            this.name = name;
+            this.age = age;
+            this.partner = partner;
+            this.constructions = age < 0 ? 0 : 1;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public Contact getPartner() {
+            return partner;
+        }
+
+        public int getConstructions() {
+            return constructions;
+        }
+
+        public String getNickname() {
+            return nickname;
+        }
+
+        public void setNickname(String nickname) {
+            this.nickname = nickname;
+        }
+    }
+
+    public interface MisannotatedBuilder extends Builder<Misannotated> {
+        MisannotatedBuilder withName(String name);
+    }
+
+    public static class Misannotated {
+        @CanonicalConstructor({"name"})
+        public Misannotated(String name, int age) {
+        }
+    }
+}
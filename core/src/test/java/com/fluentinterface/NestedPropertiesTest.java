@@ -0,0 +1,170 @@
+package com.fluentinterface;
+
+import com.fluentinterface.annotation.Sets;
+import com.fluentinterface.builder.Builder;
+import com.fluentinterface.proxy.BuilderEngine;
+import com.fluentinterface.proxy.PropertyAccessStrategy;
+import com.fluentinterface.proxy.internal.FieldPropertyAccessStrategy;
+import com.fluentinterface.proxy.internal.HybridPropertyAccessStrategy;
+import com.fluentinterface.proxy.internal.LambdaSetterPropertyAccessStrategy;
+import com.fluentinterface.proxy.internal.SetterPropertyAccessStrategy;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.fluentinterface.ReflectionBuilder.implementationFor;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+@RunWith(Parameterized.class)
+public class NestedPropertiesTest {
+
+    @Parameterized.Parameters(name = "{index}: {1}")
+    public static Iterable<Object[]> strategiesAndEngines() {
+        List<Object[]> parameters = new ArrayList<>();
+        for (BuilderEngine engine : BuilderEngine.values()) {
+            parameters.add(new Object[] {new FieldPropertyAccessStrategy(), engine});
+            parameters.add(new Object[] {new SetterPropertyAccessStrategy(), engine});
+            parameters.add(new Object[] {new LambdaSetterPropertyAccessStrategy(), engine});
+            parameters.add(new Object[] {new HybridPropertyAccessStrategy(), engine});
+        }
+        return parameters;
+    }
+
+    private PropertyAccessStrategy propertyAccessStrategy;
+    private BuilderEngine engine;
+
+    public NestedPropertiesTest(PropertyAccessStrategy propertyAccessStrategy, BuilderEngine engine) {
+        this.propertyAccessStrategy = propertyAccessStrategy;
+        this.engine = engine;
+    }
+
+    private OrderBuilder anOrder() {
+        return implementationFor(OrderBuilder.class)
+                .usingAttributeAccessStrategy(propertyAccessStrategy)
+                .usingEngine(engine)
+                .create();
+    }
+
+    @Test
+    public void shouldSetNestedPropertiesInstancingIntermediateObjects() {
+        Order order = anOrder()
+                .withReference("A-1")
+                .withCity("Paris")
+                .withStreet("Rue de Rivoli")
+                .build();
+
+        assertThat(order.getReference(), is("A-1"));
+        assertThat(order.getShipping().getAddress().getCity(), is("Paris"));
+        assertThat(order.getShipping().getAddress().getStreet(), is("Rue de Rivoli"));
+    }
+
+    @Test
+    public void shouldConvertValuesToTypeOfNestedProperty() {
+        Order order = anOrder()
+                .withZip("75001")
+                .withWeight(2)
+                .build();
+
+        assertThat(order.getShipping().getAddress().getZip(), is(75001));
+        assertThat(order.getShipping().getWeight(), is(2.0));
+    }
+
+    @Test
+    public void shouldLeaveIntermediateObjectsNullWhenNoNestedPropertyIsSet() {
+        Order order = anOrder().withReference("A-1").build();
+
+        assertThat(order.getShipping(), is(nullValue()));
+    }
+
+    public interface OrderBuilder extends Builder<Order> {
+        OrderBuilder withReference(String reference);
+
+        @Sets(property = "shipping.address.city")
+        OrderBuilder withCity(String city);
+
+        @Sets(property = "shipping.address.street")
+        OrderBuilder withStreet(String street);
+
+        @Sets(property = "shipping.address.zip")
+        OrderBuilder withZip(String zip);
+
+        @Sets(property = "shipping.weight")
+        OrderBuilder withWeight(double weight);
+    }
+
+    public static class Order {
+        private String reference;
+        private Shipping shipping;
+
+        public String getReference() {
+            return reference;
+        }
+
+        public void setReference(String reference) {
+            this.reference = reference;
+        }
+
+        public Shipping getShipping() {
+            return shipping;
+        }
+
+        public void setShipping(Shipping shipping) {
+            this.shipping = shipping;
+        }
+    }
+
+    public static class Shipping {
+        private Address address;
+        private double weight;
+
+        public Address getAddress() {
+            return address;
+        }
+
+        public void setAddress(Address address) {
+            this.address = address;
+        }
+
+        public double getWeight() {
+            return weight;
+        }
+
+        public void setWeight(double weight) {
+            this.weight = weight;
+        }
+    }
+
+    public static class Address {
+        private String city;
+        private String street;
+        private int zip;
+
+        public String getCity() {
+            return city;
+        }
+
+        public void setCity(String city) {
+            this.city = city;
+        }
+
+        public String getStreet() {
+            return street;
+        }
+
+        public void setStreet(String street) {
+            this.street = street;
+        }
+
+        public int getZip() {
+            return zip;
+        }
+
+        public void setZip(int zip) {
+            this.zip = zip;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.fluentinterface;
+
+import com.fluentinterface.builder.Builder;
+import com.fluentinterface.proxy.BuilderEngine;
+import com.fluentinterface.proxy.BuilderState;
+import com.fluentinterface.proxy.PropertyAccessStrategy;
+import com.fluentinterface.proxy.internal.FieldPropertyAccessStrategy;
+import com.fluentinterface.proxy.internal.HybridPropertyAccessStrategy;
+import com.fluentinterface.proxy.internal.LambdaSetterPropertyAccessStrategy;
+import com.fluentinterface.proxy.internal.SetterPropertyAccessStrategy;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.fluentinterface.ReflectionBuilder.implementationFor;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+@RunWith(Parameterized.class)
+public class PrimitivePropertiesTest {
+
+    @Parameterized.Parameters(name = "{index}: {1}")
+    public static Iterable<Object[]> strategiesAndEngines() {
+        List<Object[]> parameters = new ArrayList<>();
+        for (BuilderEngine engine : BuilderEngine.values()) {
+            parameters.add(new Object[] {new FieldPropertyAccessStrategy(), engine});
+            parameters.add(new Object[] {new SetterPropertyAccessStrategy(), engine});
+            parameters.add(new Object[] {new LambdaSetterPropertyAccessStrategy(), engine});
+            parameters.add(new Object[] {new HybridPropertyAccessStrategy(), engine});
+        }
+        return parameters;
+    }
+
+    private PropertyAccessStrategy propertyAccessStrategy;
+    private BuilderEngine engine;
+
+    public PrimitivePropertiesTest(PropertyAccessStrategy propertyAccessStrategy, BuilderEngine engine) {
+        this.propertyAccessStrategy = propertyAccessStrategy;
+        this.engine = engine;
+    }
+
+    private TickBuilder aTick() {
+        return implementationFor(TickBuilder.class)
+                .usingAttributeAccessStrategy(propertyAccessStrategy)
+                .usingEngine(engine)
+                .create();
+    }
+
+    @Test
+    public void shouldSetPrimitivePropertiesOfAllTypes() {
+        Tick tick = aTick()
+                .withTime(1534032000000L)
+                .withPrice(101.25)
+                .withRatio(0.5f)
+                .withVolume(300)
+                .withLot((short) -2)
+                .withFlags((byte) -1)
+                .withSide('B')
+                .withOpening(true)
+                .build();
+
+        assertThat(tick.getTime(), is(1534032000000L));
+        assertThat(tick.getPrice(), is(101.25));
+        assertThat(tick.getRatio(), is(0.5f));
+        assertThat(tick.getVolume(), is(300));
+        assertThat(tick.getLot(), is((short) -2));
+        assertThat(tick.getFlags(), is((byte) -1));
+        assertThat(tick.getSide(), is('B'));
+        assertThat(tick.isOpening(), is(true));
+    }
+
+    @Test
+    public void shouldSetPrimitivePropertyToLastValueWhateverTheSetter() {
+        assertThat(aTick().withVolume(300).withVolume("400").build().getVolume(), is(400));
+        assertThat(aTick().withVolume("400").withVolume(300).build().getVolume(), is(300));
+        assertThat(aTick().withPrice(-0.0).withPrice(Double.NaN).build().getPrice(), is(Double.NaN));
+    }
+
+    @Test
+    public void shouldProvidePrimitiveValuesToInstantiator() {
+        Tick tick = implementationFor(TickBuilder.class)
+                .usingAttributeAccessStrategy(propertyAccessStrategy)
+                .usingEngine(engine)
+                .usingInstantiator((BuilderState state) -> new Tick(
+                        state.consume("time", long.class).orElse(0L),
+                        state.peek("price", double.class).orElse(0.0)))
+                .create()
+                .withTime(42)
+                .withPrice(1.5)
+                .build();
+
+        assertThat(tick.getTime(), is(42L));
+        assertThat(tick.getPrice(), is(1.5));
+    }
+
+    public interface TickBuilder extends Builder<Tick> {
+        TickBuilder withTime(long time);
+        TickBuilder withPrice(double price);
+        TickBuilder withRatio(float ratio);
+        TickBuilder withVolume(int volume);
+        TickBuilder withVolume(String volume);
+        TickBuilder withLot(short lot);
+        TickBuilder withFlags(byte flags);
+        TickBuilder withSide(char side);
+        TickBuilder withOpening(boolean opening);
+    }
+
+    public static class Tick {
+        private long time;
+        private double price;
+        private float ratio;
+        private int volume;
+        private short lot;
+        private byte flags;
+        private char side;
+        private boolean opening;
+
+        public Tick() {
+        }
+
+        public Tick(long time, double price) {
+            this.time = time;
+            this.price = price;
+        }
+
+        public long getTime() {
+            return time;
+        }
+
+        public void setTime(long time) {
+            this.time = time;
+        }
+
+        public double getPrice() {
+            return price;
+        }
+
+        public void setPrice(double price) {
+            this.price = price;
+        }
+
+        public float getRatio() {
+            return ratio;
+        }
+
+        public void setRatio(float ratio) {
+            this.ratio = ratio;
+        }
+
+        public int getVolume() {
+            return volume;
+        }
+
+        public void setVolume(int volume) {
+            this.volume = volume;
+        }
+
+        public short getLot() {
+            return lot;
+        }
+
+        public void setLot(short lot) {
+            this.lot = lot;
+        }
+
+        public byte getFlags() {
+            return flags;
+        }
+
+        public void setFlags(byte flags) {
+            this.flags = flags;
+        }
+
+        public char getSide() {
+            return side;
+        }
+
+        public void setSide(char side) {
+            this.side = side;
+        }
+
+        public boolean isOpening() {
+            return opening;
+        }
+
+        public void setOpening(boolean opening) {
+            this.opening = opening;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.fluentinterface;
+
+import com.fluentinterface.builder.Builder;
+import com.fluentinterface.convert.Conversions;
+import com.fluentinterface.convert.TypeMatcher;
+import com.fluentinterface.examples.Person;
+import com.fluentinterface.proxy.BuilderEngine;
+import com.fluentinterface.proxy.TierListener;
+import org.junit.Test;
+
+import java.io.Serializable;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.fluentinterface.ReflectionBuilder.implementationFor;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.Matchers.typeCompatibleWith;
+import static org.junit.Assert.*;
+
+public class ReflectionBuilderTest {
+
+    @Test
+    public void shouldImplyBuiltClassFromSingleBuilderInterface() {
+
+        ReflectionBuilder<PersonBuilder> reflectionBuilder = implementationFor(PersonBuilder.class);
+
+        assertThat(reflectionBuilder.getBuiltClass(), typeCompatibleWith(Person.class));
+    }
+
+    @Test
+    public void shouldImplyBuiltClassFromMultipleBuilderInterface() {
+
+        ReflectionBuilder<PersonWithAnotherInterfaceBuilder> reflectionBuilder = implementationFor(PersonWithAnotherInterfaceBuilder.class);
+
+        assertThat(reflectionBuilder.getBuiltClass(), typeCompatibleWith(Person.class));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldNotImplyBuiltClassFromNoInterfaceAtAll() {
+
+        ReflectionBuilder<DefinitelyNotABuilder> reflectionBuilder = implementationFor(DefinitelyNotABuilder.class);
+
+        reflectionBuilder.getBuiltClass();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldNotImplyBuiltClassFromMultipleNonBuilderInterfaces() {
+
+        ReflectionBuilder<NotABuilder> reflectionBuilder = implementationFor(NotABuilder.class);
+
+        reflectionBuilder.getBuiltClass();
+    }
+
+    @Test
+    public void shouldCreateStrictBuilderWhenAllMethodsCanBeHandled() {
+
+        StrictPersonBuilder builder = implementationFor(StrictPersonBuilder.class).strict().create();
+
+        assertThat(builder.withName("John").build().getName(), is("John"));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldFailToCreateStrictBuilderWhenSomeMethodsCannotBeHandled() {
+
+        implementationFor(com.fluentinterface.examples.PersonBuilder.class).strict().create();
+    }
+
+    @Test
+    public void shouldCreateIndependentBuildersFromCompiledFactory() {
+
+        BuilderFactory<StrictPersonBuilder> factory = implementationFor(StrictPersonBuilder.class).compile();
+
+        StrictPersonBuilder john = factory.create().withName("John");
+        StrictPersonBuilder jane = factory.create().withName("Jane");
+
+        assertThat(john.build().getName(), is("John"));
+        assertThat(jane.build().getName(), is("Jane"));
+    }
+
+    @Test
+    public void shouldShareCompiledFactoryBetweenBuildersWithSameConfiguration() {
+
+        for (BuilderEngine engine : BuilderEngine.values()) {
+            BuilderFactory<StrictPersonBuilder> factory = implementationFor(StrictPersonBuilder.class).usingEngine(engine).compile();
+
+            assertThat(implementationFor(StrictPersonBuilder.class).usingEngine(engine).compile(), is(sameInstance(factory)));
+        }
+        assertThat(implementationFor(StrictPersonBuilder.class).usingTieredEngine(2, null).compile(),
+                   is(not(sameInstance(implementationFor(StrictPersonBuilder.class).usingTieredEngine(2, null).compile()))));
+    }
+
+    @Test
+    public void shouldGenerateImplementationOfNonPublicBuilderInterface() {
+
+        StrictPersonBuilder builder = implementationFor(StrictPersonBuilder.class)
+                .usingEngine(BuilderEngine.GENERATED_CLASS)
+                .create();
+
+        assertThat(builder.withName("John").build().getName(), is("John"));
+    }
+
+    @Test
+    public void shouldSwitchToGeneratedClassOnceTierThresholdIsReached() {
+
+        List<Long> promotions = new ArrayList<>();
+        TierListener listener = (builderInterface, builds) -> promotions.add(builds);
+        BuilderFactory<TieredPersonBuilder> factory = implementationFor(TieredPersonBuilder.class)
+                .usingTieredEngine(2, listener)
+                .compile();
+
+        TieredPersonBuilder cold = factory.create();
+        assertThat(Proxy.isProxyClass(cold.getClass()), is(true));
+
+        cold.withName("John").build();
+        implementationFor(TieredPersonBuilder.class).usingTieredEngine(2, listener).create().withName("Jane").build();
+        assertThat(promotions.isEmpty(), is(true));
+
+        TieredPersonBuilder hot = factory.create();
+        assertThat(Proxy.isProxyClass(hot.getClass()), is(false));
+        assertThat(hot.withName("John").build().getName(), is("John"));
+        assertThat(cold.withName("Jane").build().getName(), is("Jane"));
+
+        factory.create();
+        assertThat(promotions, contains(2L));
+    }
+
+    @Test
+    public void shouldConvertValuesWithProvidedConversions() {
+
+        Conversions conversions = Conversions.empty()
+                                             .add(TypeMatcher.is(Integer.class), TypeMatcher.is(String.class),
+                                                  (v, t, c) -> "Agent " + v);
+
+        for (BuilderEngine engine : BuilderEngine.values()) {
+            NumberedPersonBuilder builder = implementationFor(NumberedPersonBuilder.class)
+                    .usingConversions(conversions)
+                    .usingEngine(engine)
+                    .create();
+
+            assertThat(builder.withName(7).build().getName(), is("Agent 7"));
+        }
+        assertThat(conversions.isFrozen(), is(true));
+    }
+
+    private interface PersonBuilder extends Builder<Person> {}
+
+    private interface NumberedPersonBuilder extends Builder<Person> {
+        NumberedPersonBuilder withName(Integer number);
+    }
+
+    private interface TieredPersonBuilder extends Builder<Person> {
+        TieredPersonBuilder withName(String name);
+    }
+
+    private interface StrictPersonBuilder extends Builder<Person> {
+        StrictPersonBuilder withName(String name);
+    }
+
+    private interface PersonWithAnotherInterfaceBuilder extends Serializable, Builder<Person> {}
+
+    private interface NotABuilder extends Serializable, Comparable {}
+
+    private interface DefinitelyNotABuilder {}
+}
\ No newline at end of file
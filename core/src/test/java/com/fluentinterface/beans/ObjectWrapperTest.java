@@ -0,0 +1,120 @@
+package com.fluentinterface.beans;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+public class ObjectWrapperTest {
+
+    private static final int ELEMENTS = 100000;
+
+    @Test
+    public void shouldGrowArraysExactlyByDefault() {
+        Series series = new Series();
+        ObjectWrapper wrapper = new ObjectWrapper(series);
+
+        for (int i = 0; i < 10; i++) {
+            wrapper.setIndexedValue("values", i, i);
+        }
+
+        assertThat(series.getValues().length, is(10));
+        assertThat(series.valuesSets, is(10));
+    }
+
+    @Test
+    public void shouldGrowArraysGeometricallyAndTrimThemToTheirLastSetIndex() {
+        Series series = new Series();
+        ObjectWrapper wrapper = new ObjectWrapper(series);
+        wrapper.setAmortizedGrowing(true);
+
+        for (int i = 0; i < ELEMENTS; i++) {
+            wrapper.setIndexedValue("values", i, i);
+        }
+
+        assertThat(series.valuesSets, is(lessThan(50)));
+        assertThat(series.getValues().length, is(greaterThanOrEqualTo(ELEMENTS)));
+
+        wrapper.trimToSize();
+
+        assertThat(series.getValues().length, is(ELEMENTS));
+        assertThat(series.getValues()[ELEMENTS - 1], is(ELEMENTS - 1));
+    }
+
+    @Test
+    public void shouldNotTrimArraysReplacedSinceTheyWereGrown() {
+        Series series = new Series();
+        ObjectWrapper wrapper = new ObjectWrapper(series);
+        wrapper.setAmortizedGrowing(true);
+
+        for (int i = 0; i < 10; i++) {
+            wrapper.setIndexedValue("values", i, i);
+        }
+        int[] replacement = new int[20];
+        series.setValues(replacement);
+
+        wrapper.trimToSize();
+
+        assertThat(series.getValues(), is(sameInstance(replacement)));
+    }
+
+    @Test
+    public void shouldForgetArraysGrownInPreviouslyWrappedObject() {
+        Series previous = new Series();
+        Series current = new Series();
+        ObjectWrapper wrapper = new ObjectWrapper(previous);
+        wrapper.setAmortizedGrowing(true);
+
+        for (int i = 0; i < 10; i++) {
+            wrapper.setIndexedValue("values", i, i);
+        }
+        int grownLength = previous.getValues().length;
+        wrapper.setWrappedObject(current);
+        for (int i = 0; i < 10; i++) {
+            wrapper.setIndexedValue("values", i, i);
+        }
+
+        wrapper.trimToSize();
+
+        assertThat(previous.getValues().length, is(grownLength));
+        assertThat(current.getValues().length, is(10));
+    }
+
+    @Test
+    public void shouldPadListsUpToRequestedIndex() {
+        Series series = new Series();
+        ObjectWrapper wrapper = new ObjectWrapper(series);
+
+        wrapper.setIndexedValue("labels", 3, "fourth");
+        wrapper.setIndexedValue("labels", 1, "second");
+
+        assertThat(series.getLabels(), is(Arrays.asList(null, "second", null, "fourth")));
+    }
+
+    public static class Series {
+        private int[] values = new int[0];
+        private List<String> labels = new ArrayList<>();
+        private int valuesSets;
+
+        public int[] getValues() {
+            return values;
+        }
+
+        public void setValues(int[] values) {
+            valuesSets++;
+            this.values = values;
+        }
+
+        public List<String> getLabels() {
+            return labels;
+        }
+
+        public void setLabels(List<String> labels) {
+            this.labels = labels;
+        }
+    }
+}
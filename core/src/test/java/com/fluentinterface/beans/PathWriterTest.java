@@ -0,0 +1,131 @@
+package com.fluentinterface.beans;
+
+import com.fluentinterface.examples.Person;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+public class PathWriterTest {
+
+    @Test
+    public void shouldReadEachSharedObjectOnlyOncePerWrite() {
+        PathWriter writer = PathWriter.compile(Customer.class, "address.city", "address.zip", "name", "address.street");
+        Customer customer = new Customer();
+
+        new ObjectWrapper(customer).setValues(writer, "Paris", "75001", "John", "Rue de Rivoli");
+
+        assertThat(customer.addressReads, is(1));
+        assertThat(customer.getName(), is("John"));
+        assertThat(customer.getAddress().getCity(), is("Paris"));
+        assertThat(customer.getAddress().getZip(), is("75001"));
+        assertThat(customer.getAddress().getStreet(), is("Rue de Rivoli"));
+    }
+
+    @Test
+    public void shouldSetShorterPatternBeforeTraversingLongerOne() {
+        PathWriter writer = PathWriter.compile(Customer.class, "address.city", "address");
+        Customer customer = new Customer();
+        Address address = new Address();
+
+        new ObjectWrapper(customer).setValues(writer, "Paris", address);
+
+        assertThat(customer.getAddress(), is(sameInstance(address)));
+        assertThat(address.getCity(), is("Paris"));
+    }
+
+    @Test
+    public void shouldSetValuesOfMapEntries() {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("address.city", "Paris");
+        values.put("contacts[0].name", "Jane");
+        values.put("contacts[0].age", 42);
+        Customer customer = new Customer();
+        customer.getContacts().add(new Person());
+
+        new ObjectWrapper(customer).setValues(values);
+
+        assertThat(customer.getAddress().getCity(), is("Paris"));
+        assertThat(customer.getContacts().get(0).getName(), is("Jane"));
+        assertThat(customer.getContacts().get(0).getAge(), is(42));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldFailOnPatternGivenMoreThanOnce() {
+        PathWriter.compile(Customer.class, "address.city", "address.city");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldFailWhenValuesDoNotMatchPatterns() {
+        PathWriter writer = PathWriter.compile(Customer.class, "address.city", "address.zip");
+
+        new ObjectWrapper(new Customer()).setValues(writer, "Paris");
+    }
+
+    public static class Customer {
+        private String name;
+        private Address address;
+        private List<Person> contacts = new ArrayList<>();
+        private int addressReads;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public Address getAddress() {
+            addressReads++;
+            return address;
+        }
+
+        public void setAddress(Address address) {
+            this.address = address;
+        }
+
+        public List<Person> getContacts() {
+            return contacts;
+        }
+
+        public void setContacts(List<Person> contacts) {
+            this.contacts = contacts;
+        }
+    }
+
+    public static class Address {
+        private String city;
+        private String zip;
+        private String street;
+
+        public String getCity() {
+            return city;
+        }
+
+        public void setCity(String city) {
+            this.city = city;
+        }
+
+        public String getZip() {
+            return zip;
+        }
+
+        public void setZip(String zip) {
+            this.zip = zip;
+        }
+
+        public String getStreet() {
+            return street;
+        }
+
+        public void setStreet(String street) {
+            this.street = street;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.fluentinterface.beans;
+
+import com.fluentinterface.examples.Person;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+public class PropertyPathTest {
+
+    @Test
+    public void shouldCacheCompiledPathsPerClass() {
+        PropertyPath path = PropertyPath.compile(Person.class, "partner.name");
+
+        assertThat(PropertyPath.compile(Person.class, "partner.name"), is(sameInstance(path)));
+        assertThat(PropertyPath.compile(Node.class, "partner.name"), is(not(sameInstance(path))));
+        assertThat(path.getPattern(), is("partner.name"));
+    }
+
+    @Test
+    public void shouldGetNestedIndexedAndMappedValues() {
+        Node child = new Node("child");
+        Node root = new Node("root");
+        root.getChildren().add(child);
+        root.getAttributes().put("my.key", "value");
+        child.setPartner(new Person("John", 44));
+        ObjectWrapper wrapper = new ObjectWrapper(root);
+
+        assertThat(wrapper.getValue(PropertyPath.compile(Node.class, "children[0].partner.name")), is((Object) "John"));
+        assertThat(wrapper.getValue(PropertyPath.compile(Node.class, "attributes[my.key]")), is((Object) "value"));
+        assertThat(wrapper.getValue("children[0].name"), is((Object) "child"));
+    }
+
+    @Test
+    public void shouldSetNestedIndexedAndMappedValuesInstancingMissingObjects() {
+        Node root = new Node("root");
+        ObjectWrapper wrapper = new ObjectWrapper(root);
+
+        wrapper.setValue(PropertyPath.compile(Node.class, "partner.name"), "Jane");
+        wrapper.setValue(PropertyPath.compile(Node.class, "attributes[key]"), "value");
+        wrapper.setValue("children[1]", new Node("second"));
+
+        assertThat(root.getPartner().getName(), is("Jane"));
+        assertThat(root.getAttributes().get("key"), is((Object) "value"));
+        assertThat(root.getChildren().get(1).getName(), is("second"));
+    }
+
+    @Test
+    public void shouldResolvePropertiesOfTheActualClassOfEachObject() {
+        PropertyPath path = PropertyPath.compile(Node.class, "payload.name");
+        Node root = new Node("root");
+        ObjectWrapper wrapper = new ObjectWrapper(root);
+
+        root.setPayload(new Node("node"));
+        assertThat(wrapper.getValue(path), is((Object) "node"));
+
+        root.setPayload(new Person("John", 44));
+        assertThat(wrapper.getValue(path), is((Object) "John"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldFailOnUnclosedSquareNotation() {
+        PropertyPath.compile(Node.class, "children[0.name");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldFailOnInvalidIndexOnlyWhenUsedAsIndex() {
+        PropertyPath path = PropertyPath.compile(Node.class, "children[first]");
+
+        new ObjectWrapper(new Node("root")).getValue(path);
+    }
+
+    @Test(expected = PropertyNotFoundException.class)
+    public void shouldFailOnUnknownProperty() {
+        Node root = new Node("root");
+        root.setPartner(new Person("John", 44));
+
+        new ObjectWrapper(root).getValue("partner.anUnknownProperty");
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldFailWhenTraversingNullObject() {
+        new ObjectWrapper(new Node("root")).getValue("partner.name");
+    }
+
+    public static class Node {
+        private String name;
+        private Person partner;
+        private Object payload;
+        private List<Node> children = new ArrayList<>();
+        private Map<String, Object> attributes = new HashMap<>();
+
+        public Node() {
+        }
+
+        public Node(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public Person getPartner() {
+            return partner;
+        }
+
+        public void setPartner(Person partner) {
+            this.partner = partner;
+        }
+
+        public Object getPayload() {
+            return payload;
+        }
+
+        public void setPayload(Object payload) {
+            this.payload = payload;
+        }
+
+        public List<Node> getChildren() {
+            return children;
+        }
+
+        public void setChildren(List<Node> children) {
+            this.children = children;
+        }
+
+        public Map<String, Object> getAttributes() {
+            return attributes;
+        }
+
+        public void setAttributes(Map<String, Object> attributes) {
+            this.attributes = attributes;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.fluentinterface.beans.reflect;
+
+import com.fluentinterface.examples.Person;
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+public class BeanTest {
+
+    @Test
+    public void shouldIntrospectClassOnlyOnceWhenAccessedConcurrently() throws Exception {
+        Class<?> beanClass = new IsolatedClassLoader().loadClass(Person.class.getName());
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Bean<?>>> beans = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                beans.add(executor.submit(() -> {
+                    start.await();
+                    return Bean.forClass(beanClass);
+                }));
+            }
+            start.countDown();
+
+            for (Future<Bean<?>> bean : beans) {
+                assertThat(bean.get(), is(sameInstance(Bean.forClass(beanClass))));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldResolvePropertiesByNameOnlyOnce() {
+        Bean<Person> bean = Bean.forClass(Person.class);
+
+        Property name = bean.getProperty("name");
+
+        assertThat(name.getType(), is(equalTo((Class) String.class)));
+        assertThat(name.getField().getName(), is("name"));
+        assertThat(bean.getProperty("name"), is(sameInstance(name)));
+        assertThat(bean.getProperty("anUnknownProperty"), is(nullValue()));
+    }
+
+    @Test
+    public void shouldListSamePropertiesAsResolvedByName() {
+        Bean<Person> bean = Bean.forClass(Person.class);
+        Property age = bean.getProperty("age");
+
+        Property[] properties = bean.getProperties();
+
+        assertThat(properties, hasItemInArray(sameInstance(age)));
+        for (Property property : properties) {
+            assertThat(bean.getProperty(property.getName()), is(sameInstance(property)));
+        }
+    }
+
+    @Test
+    public void shouldShareDeclaredPropertiesWithEquivalentPublicProperties() {
+        Bean<Person> bean = Bean.forClass(Person.class);
+
+        assertThat(bean.getDeclaredProperty("partner"), is(sameInstance(bean.getProperty("partner"))));
+        assertThat(bean.getDeclaredProperties().length, is(bean.getProperties().length - 1));
+        assertThat(bean.getDeclaredProperty("class"), is(nullValue()));
+    }
+
+    @Test
+    public void shouldNotPreventClassesFromBeingUnloaded() throws Exception {
+        WeakReference<ClassLoader> loader = introspectClassOfDiscardedLoader();
+
+        for (int i = 0; i < 50 && loader.get() != null; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+
+        assertThat("class loader was collected", loader.get(), is(nullValue()));
+    }
+
+    private static WeakReference<ClassLoader> introspectClassOfDiscardedLoader() throws Exception {
+        ClassLoader loader = new IsolatedClassLoader();
+        Class<?> beanClass = loader.loadClass(Person.class.getName());
+
+        assertThat(beanClass.getClassLoader(), is(sameInstance(loader)));
+        assertThat(Bean.forClass(beanClass).getProperty("name"), is(notNullValue()));
+
+        return new WeakReference<>(loader);
+    }
+
+    /**
+     * Loads its own copy of the test classes, so that they can be unloaded with it.
+     */
+    private static class IsolatedClassLoader extends URLClassLoader {
+        IsolatedClassLoader() {
+            super(new URL[] {Person.class.getProtectionDomain().getCodeSource().getLocation()},
+                  ClassLoader.getSystemClassLoader().getParent());
+        }
+    }
+}
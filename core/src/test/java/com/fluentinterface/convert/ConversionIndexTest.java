@@ -0,0 +1,126 @@
+package com.fluentinterface.convert;
+
+import com.fluentinterface.convert.Conversions.Convert;
+import com.fluentinterface.convert.Conversions.ConverterEntry;
+import org.junit.Test;
+
+import javax.lang.model.type.NullType;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.fluentinterface.convert.PathMatcher.match;
+import static com.fluentinterface.convert.TypeMatcher.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+public class ConversionIndexTest {
+
+    private static final Class<?>[] TYPES = {
+            String.class, Integer.class, int.class, Long.class, Number.class, Object.class, CharSequence.class,
+            Comparable.class, Runnable.class, NullType.class, String[].class, Object[].class, int[].class, Enum.class,
+            Fruit.class, Date.class
+    };
+
+    private enum Fruit {apple}
+
+    private final List<ConverterEntry> converters = new ArrayList<>();
+
+    private Convert add(PathMatcher<?, ?> matcher) {
+        Convert converter = (v, t, c) -> v;
+        converters.add(new ConverterEntry(matcher, converter));
+        return converter;
+    }
+
+    @Test
+    public void findsSameConversionsAsScanningInOrder() {
+        Random random = new Random(42);
+        for (int i = 0; i < 300; i++) {
+            add(randomMatcher(random));
+        }
+
+        ConversionIndex index = new ConversionIndex(converters);
+
+        for (Class<?> source : TYPES) {
+            for (Class<?> target : TYPES) {
+                assertThat(source + "->" + target, index.find(source, target),
+                           is(sameInstance(Conversions.scan(converters, source, target))));
+            }
+        }
+    }
+
+    @Test
+    public void findsFirstRegisteredConversionWhateverItsBucket() {
+        Convert anyToString = add(match(any(), is(String.class)));
+        add(match(is(Integer.class), is(String.class)));
+        Convert integerToNumber = add(match(is(Integer.class), isInstanceOf(Number.class)));
+        add(match(isInstanceOf(Number.class), is(Long.class)));
+
+        ConversionIndex index = new ConversionIndex(converters);
+
+        assertThat(index.find(Integer.class, String.class), is(sameInstance(anyToString)));
+        assertThat(index.find(Integer.class, Long.class), is(sameInstance(integerToNumber)));
+        assertThat(index.find(String.class, Long.class), is(nullValue()));
+    }
+
+    @Test
+    public void findsConversionsOfSupertypes() {
+        Convert objects = add(match(isInstanceOf(Object.class), is(Runnable.class)));
+        Convert arrays = add(match(isInstanceOf(Object[].class), is(String.class)));
+        Convert comparables = add(match(nulls(), isInstanceOf(Comparable.class)));
+
+        ConversionIndex index = new ConversionIndex(converters);
+
+        assertThat("interface", index.find(Runnable.class, Runnable.class), is(sameInstance(objects)));
+        assertThat("covariant array", index.find(String[].class, String.class), is(sameInstance(arrays)));
+        assertThat("primitive array", index.find(int[].class, String.class), is(nullValue()));
+        assertThat("implemented interface", index.find(NullType.class, Fruit.class), is(sameInstance(comparables)));
+    }
+
+    @Test
+    public void doesNotEvaluateMatchersOfConversionsOfOtherTypes() {
+        AtomicInteger evaluations = new AtomicInteger();
+        for (int i = 0; i < 1000; i++) {
+            add(match(is(String.class), t -> evaluations.incrementAndGet() < 0));
+        }
+        Convert custom = add((s, t) -> s == Integer.class);
+
+        ConversionIndex index = new ConversionIndex(converters);
+
+        assertThat(index.find(Integer.class, Long.class), is(sameInstance(custom)));
+        assertThat(evaluations.get(), is(0));
+    }
+
+    private static PathMatcher<?, ?> randomMatcher(Random random) {
+        if (random.nextInt(20) == 0) {
+            Class<?> source = randomType(random);
+            return (s, t) -> s == source;
+        }
+        return match(randomTypeMatcher(random), randomTypeMatcher(random));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static TypeMatcher<Object> randomTypeMatcher(Random random) {
+        switch (random.nextInt(7)) {
+            case 0:
+                return (TypeMatcher<Object>) any();
+            case 1:
+                return (TypeMatcher<Object>) nulls();
+            case 2:
+                return (TypeMatcher<Object>) is(randomType(random), randomType(random));
+            case 3:
+                return (TypeMatcher<Object>) isInstanceOf(randomType(random));
+            case 4:
+                Class<?> type = randomType(random);
+                return t -> t == type;
+            default:
+                return (TypeMatcher<Object>) is(randomType(random));
+        }
+    }
+
+    private static Class<?> randomType(Random random) {
+        return TYPES[random.nextInt(TYPES.length)];
+    }
+}
@@ -1,9 +1,13 @@
 package com.fluentinterface.convert;
 
+import com.fluentinterface.convert.Conversions.Convert;
 import org.junit.Test;
 
+import java.lang.ref.WeakReference;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.time.*;
 import java.util.Date;
 import java.util.List;
@@ -45,6 +49,13 @@ public class ConverterTest {
         assertThat("null->List", converter.convert(null, List.class), nullValue());
     }
 
+    @Test
+    public void keepsBoxedPrimitivesForPrimitiveTypes() {
+        Double boxed = 817d;
+        assertThat("Double->double", converter.convert(boxed, double.class), is(sameInstance(boxed)));
+        assertThat("Integer->int", converter.convert(182, int.class), is(182));
+    }
+
     @Test
     public void convertsPrimitivesToString() {
         assertThat("Boolean->String", converter.convert(true, String.class), is("true"));
@@ -117,4 +128,107 @@ public class ConverterTest {
 
         assertThat("custom conversion", converter.convert(999, String.class), is("custom"));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void sharesFrozenDefaultConversions() {
+        assertThat(Conversions.frozenDefaults(), sameInstance(Conversions.frozenDefaults()));
+        assertThat(Conversions.frozenDefaults().isFrozen(), is(true));
+        assertThat(Conversions.defaults().isFrozen(), is(false));
+        assertThat("String->int", new Converter().convert("42", int.class), is(42));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void rejectsConversionsAddedOnceFrozen() {
+        Conversions.empty()
+                   .freeze()
+                   .add(TypeMatcher.is(Integer.class), TypeMatcher.is(String.class), (v, t, c) -> "custom");
+    }
+
+    @Test
+    public void extendsFrozenConversionsIntoNewOnes() {
+        Conversions conversions = Conversions.empty().freeze();
+
+        assertThat(conversions.freeze(), sameInstance(conversions));
+
+        Converter converter = new Converter(
+                Conversions.of(conversions, Conversions.frozenDefaults())
+                           .add(TypeMatcher.is(Integer.class), TypeMatcher.is(String.class), (v, t, c) -> "custom"));
+
+        assertThat("default conversion", converter.convert(999, String.class), is("999"));
+    }
+
+    @Test
+    public void looksUpConversionsAgainOnceConversionsAreAdded() {
+        Conversions conversions = Conversions.empty();
+        Converter converter = new Converter(conversions);
+
+        assertThat("no conversion", conversions.find(Integer.class, String.class), is(nullValue()));
+
+        conversions.add(TypeMatcher.is(Integer.class), TypeMatcher.is(String.class), (v, t, c) -> "custom");
+
+        assertThat("added conversion", converter.convert(999, String.class), is("custom"));
+
+        conversions.add(TypeMatcher.is(Long.class), TypeMatcher.is(String.class), (v, t, c) -> "other");
+
+        assertThat("first added conversion", converter.convert(999, String.class), is("custom"));
+        assertThat("second added conversion", converter.convert(999L, String.class), is("other"));
+    }
+
+    @Test
+    public void doesNotKeepDiscardedConversionsInCache() throws Exception {
+        WeakReference<Convert<?, ?>> conversion = convertWithDiscardedConversions();
+
+        for (int i = 0; i < 50 && conversion.get() != null; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+
+        assertThat("conversion was collected", conversion.get(), is(nullValue()));
+    }
+
+    private static WeakReference<Convert<?, ?>> convertWithDiscardedConversions() {
+        String result = "custom";
+        Convert<Integer, String> custom = (v, t, c) -> result;
+        Conversions conversions = Conversions.empty().add(TypeMatcher.is(Integer.class), TypeMatcher.is(String.class), custom);
+
+        assertThat(new Converter(conversions).convert(999, String.class), is("custom"));
+
+        return new WeakReference<>(custom);
+    }
+
+    @Test
+    public void doesNotPreventClassesFromBeingUnloaded() throws Exception {
+        WeakReference<ClassLoader> loader = convertClassOfDiscardedLoader();
+
+        for (int i = 0; i < 50 && loader.get() != null; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+
+        assertThat("class loader was collected", loader.get(), is(nullValue()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static WeakReference<ClassLoader> convertClassOfDiscardedLoader() throws Exception {
+        ClassLoader loader = new IsolatedClassLoader();
+        Class<Enum> fruitClass = (Class<Enum>) loader.loadClass(Fruit.class.getName());
+        Converter converter = new Converter();
+
+        Enum apple = converter.convert("apple", fruitClass);
+
+        assertThat(apple.getClass(), is(equalTo((Class) fruitClass)));
+        assertThat(converter.convert(apple, String.class), is("apple"));
+
+        return new WeakReference<>(loader);
+    }
+
+    /**
+     * Loads its own copy of the test classes, so that they can be unloaded with it.
+     */
+    private static class IsolatedClassLoader extends URLClassLoader {
+        IsolatedClassLoader() {
+            super(new URL[] {Fruit.class.getProtectionDomain().getCodeSource().getLocation()},
+                  ClassLoader.getSystemClassLoader().getParent());
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.fluentinterface.proxy.internal;
+
+import com.fluentinterface.ReflectionBuilder;
+import com.fluentinterface.builder.Builder;
+import com.fluentinterface.examples.Person;
+import com.fluentinterface.examples.PersonBuilder;
+import com.fluentinterface.proxy.BuilderEngine;
+import com.fluentinterface.proxy.DefaultBuilderDelegate;
+import com.fluentinterface.proxy.PropertyAccessStrategy;
+import org.junit.Test;
+
+import java.util.stream.IntStream;
+
+import static com.fluentinterface.proxy.internal.DispatchTable.Kind.*;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+public class DispatchTableTest {
+
+    private final DefaultBuilderDelegate builderDelegate = new DefaultBuilderDelegate();
+    private final PropertyAccessStrategy strategy = new SetterPropertyAccessStrategy();
+
+    @Test
+    public void shouldClassifyBuilderMethods() throws Exception {
+        DispatchTable table = DispatchTable.forBuilder(PersonBuilder.class, Person.class, builderDelegate, strategy);
+
+        assertThat(table.lookup(PersonBuilder.class.getMethod("withName", String.class)).kind, is(SETTER));
+        assertThat(table.lookup(PersonBuilder.class.getMethod("withManyValues", String.class, int.class)).kind, is(DEFAULT));
+        assertThat(table.lookup(Builder.class.getMethod("build", Object[].class)).kind, is(BUILD));
+        assertThat(table.lookup(Object.class.getMethod("toString")).kind, is(UNRESOLVED));
+    }
+
+    @Test
+    public void shouldReportUnresolvedMethodsAtAnalysis() {
+        DispatchTable table = DispatchTable.forBuilder(PersonBuilder.class, Person.class, builderDelegate, new FieldPropertyAccessStrategy());
+
+        assertThat(table.getUnresolvedMethods().stream().map(m -> m.method.getName()).collect(toList()),
+                   containsInAnyOrder("withAnUnknownProperty", "something"));
+    }
+
+    @Test
+    public void shouldShareTableBetweenBuildersWithSameConfiguration() {
+        DispatchTable table = DispatchTable.forBuilder(PersonBuilder.class, Person.class, builderDelegate, strategy);
+
+        assertThat(DispatchTable.forBuilder(PersonBuilder.class, Person.class, builderDelegate, strategy),
+                   sameInstance(table));
+        assertThat(DispatchTable.forBuilder(PersonBuilder.class, Person.class, builderDelegate, new SetterPropertyAccessStrategy()),
+                   not(sameInstance(table)));
+    }
+
+    @Test
+    public void shouldNotKeepTablesOfDiscardedConfigurations() throws Exception {
+        for (int i = 0; i < 300; i++) {
+            for (BuilderEngine engine : BuilderEngine.values()) {
+                Person person = ReflectionBuilder.implementationFor(DiscardedPersonBuilder.class)
+                                                 .withDelegate(new DefaultBuilderDelegate())
+                                                 .usingAttributeAccessStrategy(new SetterPropertyAccessStrategy())
+                                                 .usingEngine(engine)
+                                                 .create()
+                                                 .withName("John")
+                                                 .build();
+                assertThat(person.getName(), is("John"));
+            }
+        }
+
+        for (int i = 0; i < 50 && DispatchTable.cachedTableCount(DiscardedPersonBuilder.class) > 1; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+
+        assertThat(DispatchTable.cachedTableCount(DiscardedPersonBuilder.class), is(lessThanOrEqualTo(1)));
+    }
+
+    @Test
+    public void shouldNotKeepTablesOfReplacedDefaultDelegates() throws Exception {
+        try {
+            for (int i = 0; i < 300; i++) {
+                ReflectionBuilder.setDefaultBuilderDelegate(new DefaultBuilderDelegate());
+                Person person = ReflectionBuilder.implementationFor(ReplacedDelegatePersonBuilder.class)
+                                                 .create()
+                                                 .withName("John")
+                                                 .build();
+                assertThat(person.getName(), is("John"));
+            }
+        } finally {
+            ReflectionBuilder.setDefaultBuilderDelegate(AbstractBuilderFactory.DEFAULT_BUILDER_DELEGATE);
+        }
+
+        for (int i = 0; i < 50 && DispatchTable.cachedTableCount(ReplacedDelegatePersonBuilder.class) > 0; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+
+        assertThat(DispatchTable.cachedTableCount(ReplacedDelegatePersonBuilder.class), is(0));
+    }
+
+    @Test
+    public void shouldKeepTablesOfDefaultConfiguration() throws Exception {
+        ReflectionBuilder.implementationFor(DefaultPersonBuilder.class).create().withName("John").build();
+
+        System.gc();
+
+        ReflectionBuilder.implementationFor(DefaultPersonBuilder.class).create().withName("Jane").build();
+        assertThat(DispatchTable.cachedTableCount(DefaultPersonBuilder.class), is(1));
+    }
+
+    @Test
+    public void shouldShareSlotBetweenSettersOfSameProperty() throws Exception {
+        DispatchTable table = DispatchTable.forBuilder(PersonBuilder.class, Person.class, builderDelegate, strategy);
+
+        DispatchTable.BuilderMethod named = table.lookup(PersonBuilder.class.getMethod("named", String.class));
+        DispatchTable.BuilderMethod withName = table.lookup(PersonBuilder.class.getMethod("withName", String.class));
+        DispatchTable.BuilderMethod withAge = table.lookup(PersonBuilder.class.getMethod("withAge", int.class));
+
+        assertThat(named.slot, is(table.getPropertySlot("name")));
+        assertThat(withName.slot, is(named.slot));
+        assertThat(withAge.slot, not(is(named.slot)));
+        assertThat(table.getMethods().stream().filter(m -> m.kind == SETTER).map(m -> m.slot).distinct().sorted().collect(toList()),
+                   contains(IntStream.range(0, table.getPropertyCount()).boxed().toArray()));
+        assertThat(table.getPropertySlot("unknown"), is(-1));
+    }
+
+    @Test
+    public void shouldWritePrimitivePropertiesDirectlyOnlyWhenNoConversionIsNeeded() throws Exception {
+        DispatchTable table = DispatchTable.forBuilder(PersonBuilder.class, Person.class, builderDelegate, strategy);
+
+        assertThat(table.lookup(PersonBuilder.class.getMethod("withAge", int.class)).primitiveWriter, is(notNullValue()));
+        assertThat(table.lookup(PersonBuilder.class.getMethod("withAge", String.class)).primitiveWriter, is(nullValue()));
+        assertThat(table.lookup(PersonBuilder.class.getMethod("withName", String.class)).primitiveWriter, is(nullValue()));
+        assertThat(table.lookup(PersonBuilder.class.getMethod("notYetBorn")).primitiveWriter, is(nullValue()));
+    }
+
+    @Test
+    public void shouldNotWritePrimitivePropertiesDirectlyWithSubclassesOfStrategies() throws Exception {
+        PropertyAccessStrategy subclass = new SetterPropertyAccessStrategy() {
+            @Override
+            public void setPropertyValue(Object target, String property, Object value) {
+                super.setPropertyValue(target, property, value);
+            }
+        };
+        DispatchTable table = DispatchTable.forBuilder(PersonBuilder.class, Person.class, builderDelegate, subclass);
+
+        assertThat(table.lookup(PersonBuilder.class.getMethod("withAge", int.class)).primitiveWriter, is(nullValue()));
+    }
+
+    private interface DiscardedPersonBuilder extends Builder<Person> {
+        DiscardedPersonBuilder withName(String name);
+    }
+
+    private interface DefaultPersonBuilder extends Builder<Person> {
+        DefaultPersonBuilder withName(String name);
+    }
+
+    private interface ReplacedDelegatePersonBuilder extends Builder<Person> {
+        ReplacedDelegatePersonBuilder withName(String name);
+    }
+}
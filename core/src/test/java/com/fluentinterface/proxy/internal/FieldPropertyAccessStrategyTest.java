@@ -0,0 +1,121 @@
+package com.fluentinterface.proxy.internal;
+
+import com.fluentinterface.proxy.PropertyTarget;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+public class FieldPropertyAccessStrategyTest {
+
+    private final FieldPropertyAccessStrategy strategy = new FieldPropertyAccessStrategy();
+
+    @Test
+    public void shouldSetPrivateFieldsIncludingInheritedOnes() throws Exception {
+        Child child = new Child();
+        PropertyTarget target = strategy.targetFor(child);
+
+        target.setProperty("name", "John");
+        target.setProperty("age", 44);
+        strategy.setPropertyValue(child, "age", 45);
+
+        assertThat(((Parent) child).name, is("John"));
+        assertThat(child.age, is(45));
+    }
+
+    @Test
+    public void shouldSetFinalFields() throws Exception {
+        Child child = new Child();
+
+        strategy.setPropertyValue(child, "id", "c-001");
+
+        assertThat(child.id, is("c-001"));
+    }
+
+    @Test
+    public void shouldWidenPrimitiveValues() throws Exception {
+        Child child = new Child();
+
+        strategy.setPropertyValue(child, "time", 42);
+
+        assertThat(child.time, is(42L));
+    }
+
+    @Test
+    public void shouldReportPropertyTypes() {
+        assertThat(strategy.getPropertyType(Child.class, "age"), is(equalTo((Class) int.class)));
+        assertThat(strategy.getPropertyType(Child.class, "name"), is(equalTo((Class) String.class)));
+    }
+
+    @Test
+    public void shouldSetFieldOfClosestClassWhenShadowed() throws Exception {
+        Shadowing shadowing = new Shadowing();
+
+        strategy.setPropertyValue(shadowing, "name", "John");
+
+        assertThat(shadowing.name, is("John"));
+        assertThat(((Parent) shadowing).name, is(nullValue()));
+        assertThat(strategy.getPropertyType(Shadowing.class, "name"), is(equalTo((Class) CharSequence.class)));
+    }
+
+    @Test
+    public void shouldNotFindUnknownOrSyntheticFields() {
+        assertThat(strategy.hasProperty(Child.class, "unknown"), is(false));
+        assertThat(strategy.hasProperty(Inner.class, "this$0"), is(false));
+        assertThat(strategy.hasProperty(Inner.class, "value"), is(true));
+    }
+
+    @Test
+    public void shouldLookInheritedFieldsUpThroughOverridableMethod() throws Exception {
+        FieldPropertyAccessStrategy parentFieldsHidden = new FieldPropertyAccessStrategy() {
+            @Override
+            protected Field findFieldFromAncestors(Class<?> clazz, String fieldName) {
+                return clazz == Child.class ? null : super.findFieldFromAncestors(clazz, fieldName);
+            }
+        };
+
+        assertThat(parentFieldsHidden.hasProperty(Child.class, "age"), is(true));
+        assertThat(parentFieldsHidden.hasProperty(Child.class, "name"), is(false));
+        assertThat(parentFieldsHidden.hasProperty(Shadowing.class, "age"), is(true));
+    }
+
+    @Test
+    public void shouldSetPropertiesThroughOverriddenSetPropertyValueOfSubclass() throws Exception {
+        Child child = new Child();
+        FieldPropertyAccessStrategy subclass = new FieldPropertyAccessStrategy() {
+            @Override
+            public void setPropertyValue(Object target, String property, Object value) throws Exception {
+                super.setPropertyValue(target, property, value.toString().toUpperCase());
+            }
+        };
+
+        subclass.targetFor(child).setProperty("name", "John");
+
+        assertThat(((Parent) child).name, is("JOHN"));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldFailToSetUnknownProperty() throws Exception {
+        strategy.setPropertyValue(new Child(), "unknown", "value");
+    }
+
+    private static class Parent {
+        private String name;
+    }
+
+    private static class Child extends Parent {
+        private final String id = null;
+        private int age;
+        private long time;
+    }
+
+    private static class Shadowing extends Child {
+        private CharSequence name;
+    }
+
+    private class Inner {
+        private String value;
+    }
+}
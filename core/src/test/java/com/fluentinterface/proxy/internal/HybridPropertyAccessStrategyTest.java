@@ -0,0 +1,74 @@
+package com.fluentinterface.proxy.internal;
+
+import com.fluentinterface.proxy.PropertyTarget;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+public class HybridPropertyAccessStrategyTest {
+
+    private final HybridPropertyAccessStrategy strategy = new HybridPropertyAccessStrategy();
+
+    @Test
+    public void shouldSetPropertiesThroughSettersWhenPresentAndFieldsOtherwise() throws Exception {
+        Account account = new Account();
+        PropertyTarget target = strategy.targetFor(account);
+
+        target.setProperty("email", " John@Example.com ");
+        target.setProperty("balance", 10L);
+        strategy.setPropertyValue(account, "balance", 12L);
+
+        assertThat(account.getEmail(), is("john@example.com"));
+        assertThat(account.balance, is(12L));
+    }
+
+    @Test
+    public void shouldChooseAccessorOncePerProperty() {
+        assertThat(strategy.writerFor(Account.class, "email"), is(sameInstance(strategy.writerFor(Account.class, "email"))));
+        assertThat(strategy.strategyFor(Account.class, "email"), is(instanceOf(LambdaSetterPropertyAccessStrategy.class)));
+        assertThat(strategy.strategyFor(Account.class, "balance"), is(instanceOf(FieldPropertyAccessStrategy.class)));
+    }
+
+    @Test
+    public void shouldReportPropertyTypes() {
+        assertThat(strategy.getPropertyType(Account.class, "email"), is(equalTo((Class) String.class)));
+        assertThat(strategy.getPropertyType(Account.class, "balance"), is(equalTo((Class) long.class)));
+        assertThat(strategy.getPropertyType(Account.class, "unknown"), is(nullValue()));
+    }
+
+    @Test
+    public void shouldSetPropertiesThroughOverriddenSetPropertyValueOfSubclass() throws Exception {
+        Account account = new Account();
+        HybridPropertyAccessStrategy subclass = new HybridPropertyAccessStrategy() {
+            @Override
+            public void setPropertyValue(Object target, String property, Object value) throws Exception {
+                super.setPropertyValue(target, property, ((Long) value) * 100);
+            }
+        };
+
+        subclass.targetFor(account).setProperty("balance", 10L);
+        assertThat(account.balance, is(1000L));
+
+        subclass.writerFor(Account.class, "balance").write(account, 12L);
+        assertThat(account.balance, is(1200L));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldFailToSetUnknownProperty() throws Exception {
+        strategy.setPropertyValue(new Account(), "unknown", "value");
+    }
+
+    public static class Account {
+        private String email;
+        private long balance;
+
+        public String getEmail() {
+            return email;
+        }
+
+        public void setEmail(String email) {
+            this.email = email.trim().toLowerCase();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.fluentinterface.proxy.internal;
+
+import com.fluentinterface.examples.Person;
+import com.fluentinterface.proxy.PropertyTarget;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+public class LambdaSetterPropertyAccessStrategyTest {
+
+    private final LambdaSetterPropertyAccessStrategy strategy = new LambdaSetterPropertyAccessStrategy();
+
+    @Test
+    public void shouldSetPropertiesThroughSetters() throws Exception {
+        Person person = new Person();
+        PropertyTarget target = strategy.targetFor(person);
+
+        target.setProperty("name", "John");
+        target.setProperty("age", 44);
+        strategy.setPropertyValue(person, "age", 45);
+
+        assertThat(person.getName(), is("John"));
+        assertThat(person.getAge(), is(45));
+    }
+
+    @Test
+    public void shouldSetPropertiesOfNonPublicClasses() throws Exception {
+        Hidden hidden = new Hidden();
+
+        strategy.targetFor(hidden).setProperty("value", "secret");
+
+        assertThat(hidden.value, is("secret"));
+    }
+
+    @Test
+    public void shouldReportPropertyTypes() {
+        assertThat(strategy.getPropertyType(Person.class, "age"), is(equalTo((Class) int.class)));
+        assertThat(strategy.getPropertyType(Person.class, "unknown"), is(nullValue()));
+    }
+
+    @Test
+    public void shouldSetPropertiesThroughOverriddenSetPropertyValueOfSubclass() throws Exception {
+        Person person = new Person();
+        LambdaSetterPropertyAccessStrategy subclass = new LambdaSetterPropertyAccessStrategy() {
+            @Override
+            public void setPropertyValue(Object target, String property, Object value) {
+                super.setPropertyValue(target, property, value.toString().toUpperCase());
+            }
+        };
+
+        subclass.targetFor(person).setProperty("name", "John");
+
+        assertThat(person.getName(), is("JOHN"));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldFailToSetUnknownProperty() {
+        strategy.setPropertyValue(new Person(), "unknown", "value");
+    }
+
+    private static class Hidden {
+        private String value;
+
+        public void setValue(String value) {
+            this.value = value;
+        }
+    }
+}
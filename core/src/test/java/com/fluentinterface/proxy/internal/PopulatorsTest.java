@@ -0,0 +1,83 @@
+package com.fluentinterface.proxy.internal;
+
+import com.fluentinterface.examples.Person;
+import com.fluentinterface.examples.PersonBuilder;
+import com.fluentinterface.proxy.DefaultBuilderDelegate;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+public class PopulatorsTest {
+
+    private final DispatchTable table = DispatchTable.forBuilder(PersonBuilder.class, Person.class,
+                                                                 new DefaultBuilderDelegate(),
+                                                                 new SetterPropertyAccessStrategy());
+    private final int name = table.getPropertySlot("name");
+    private final int age = table.getPropertySlot("age");
+
+    @Test
+    public void shouldReusePopulatorForSamePropertiesSetInSameOrder() {
+        Populators populators = table.getPopulators();
+        long[] mask = maskOf(name, age);
+
+        Populators.Populator populator = populators.find(mask, new int[] {name, age}, 2);
+
+        assertThat(populator, is(notNullValue()));
+        assertThat(populators.find(mask, new int[] {name, age, -1}, 2), is(sameInstance(populator)));
+        assertThat(populators.find(mask, new int[] {age, name}, 2), is(not(sameInstance(populator))));
+        assertThat(populators.find(maskOf(name), new int[] {name}, 1), is(not(sameInstance(populator))));
+    }
+
+    @Test
+    public void shouldWriteConvertedValuesOfAllProperties() throws Exception {
+        Object[] values = new Object[table.getPropertyCount()];
+        DispatchTable.BuilderMethod[] setters = new DispatchTable.BuilderMethod[values.length];
+        values[name] = "John";
+        setters[name] = table.lookup(PersonBuilder.class.getMethod("withName", String.class));
+        values[age] = "44";
+        setters[age] = table.lookup(PersonBuilder.class.getMethod("withAge", String.class));
+
+        Person person = new Person();
+        table.getPopulators().find(maskOf(name, age), new int[] {name, age}, 2).populate(person, values, setters, null);
+
+        assertThat(person.getName(), is("John"));
+        assertThat(person.getAge(), is(44));
+    }
+
+    @Test
+    public void shouldWriteThroughOverriddenSetPropertyValueOfSubclassedStrategy() throws Exception {
+        DispatchTable table = DispatchTable.forBuilder(PersonBuilder.class, Person.class, new DefaultBuilderDelegate(),
+                                                       new SetterPropertyAccessStrategy() {
+                                                           @Override
+                                                           public void setPropertyValue(Object target, String property, Object value) {
+                                                               super.setPropertyValue(target, property, value.toString().toUpperCase());
+                                                           }
+                                                       });
+        int name = table.getPropertySlot("name");
+        Object[] values = new Object[table.getPropertyCount()];
+        DispatchTable.BuilderMethod[] setters = new DispatchTable.BuilderMethod[values.length];
+        values[name] = "John";
+        setters[name] = table.lookup(PersonBuilder.class.getMethod("withName", String.class));
+
+        Person person = new Person();
+        table.getPopulators().find(maskOf(name), new int[] {name}, 1).populate(person, values, setters, null);
+
+        assertThat(person.getName(), is("JOHN"));
+    }
+
+    @Test
+    public void shouldNotCompilePopulatorForPropertiesThatCannotBeWritten() {
+        int unknown = table.getPropertySlot("anUnknownProperty");
+
+        assertThat(table.getPopulators().find(maskOf(name, unknown), new int[] {name, unknown}, 2), is(nullValue()));
+    }
+
+    private static long[] maskOf(int... slots) {
+        long mask = 0;
+        for (int slot : slots) {
+            mask |= 1L << slot;
+        }
+        return new long[] {mask};
+    }
+}
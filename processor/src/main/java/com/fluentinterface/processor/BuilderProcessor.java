@@ -0,0 +1,99 @@
+package com.fluentinterface.processor;
+
+import com.fluentinterface.builder.Builder;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Generates, at compile time, a plain Java implementation of every builder interface extending {@link Builder} found in
+ * the compiled sources. {@link com.fluentinterface.ReflectionBuilder} uses these implementations instead of dynamic
+ * proxies whenever they are present.
+ * <p>
+ * Only builder interfaces that can be implemented without any runtime introspection or conversion are generated (see
+ * {@link BuilderSourceGenerator}). The others are reported with a note and keep being implemented by dynamic proxies.
+ */
+public class BuilderProcessor extends AbstractProcessor {
+
+    private final Set<String> processedInterfaces = new HashSet<>();
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        // builder interfaces need not be annotated
+        return Collections.singleton("*");
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement builderElement = processingEnv.getElementUtils().getTypeElement(Builder.class.getCanonicalName());
+        if (builderElement == null) {
+            return false;
+        }
+
+        for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            processType(type, builderElement);
+        }
+        return false;
+    }
+
+    private void processType(TypeElement type, TypeElement builderElement) {
+        if (type.getKind() == ElementKind.INTERFACE && extendsBuilder(type, builderElement)
+                && processedInterfaces.add(type.getQualifiedName().toString())) {
+            generate(type, builderElement);
+        }
+
+        for (Element enclosed : type.getEnclosedElements()) {
+            if (enclosed instanceof TypeElement) {
+                processType((TypeElement) enclosed, builderElement);
+            }
+        }
+    }
+
+    private boolean extendsBuilder(TypeElement type, TypeElement builderElement) {
+        return processingEnv.getTypeUtils().isAssignable(
+                processingEnv.getTypeUtils().erasure(type.asType()),
+                processingEnv.getTypeUtils().erasure(builderElement.asType()));
+    }
+
+    private void generate(TypeElement builderInterface, TypeElement builderElement) {
+        BuilderSourceGenerator generator = new BuilderSourceGenerator(processingEnv, builderInterface, builderElement);
+
+        String source;
+        try {
+            source = generator.generate();
+        } catch (UnsupportedBuilderException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, String.format(
+                    "No implementation generated for builder [%s], a dynamic proxy will be used instead: %s",
+                    builderInterface.getQualifiedName(), e.getMessage()), builderInterface);
+            return;
+        }
+
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(generator.getQualifiedClassName(), builderInterface);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source);
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, String.format(
+                    "Could not write implementation of builder [%s]: %s",
+                    builderInterface.getQualifiedName(), e.getMessage()), builderInterface);
+        }
+    }
+}
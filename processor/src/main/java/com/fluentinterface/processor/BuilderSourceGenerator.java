@@ -0,0 +1,674 @@
+package com.fluentinterface.processor;
+
+import com.fluentinterface.annotation.CanonicalConstructor;
+import com.fluentinterface.annotation.Constructs;
+import com.fluentinterface.annotation.Sets;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.*;
+import javax.lang.model.type.*;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Generates the source of a plain Java implementation of a builder interface, handling its methods the same way
+ * {@link com.fluentinterface.ReflectionBuilder} would with its default configuration (public setters, default builder
+ * delegate, empty constructor):
+ * <ul>
+ * <li>setters record their value, which is set on the built object using its public setter, in the order the
+ * properties were first set;</li>
+ * <li>{@link Constructs} methods select the constructor of the built object;</li>
+ * <li>{@code build(Object...)} instantiates the built object, picking a constructor matching its arguments if any;</li>
+ * <li>default methods are inherited from the interface.</li>
+ * </ul>
+ * Values are only accepted when they can be set without conversion, with the exception of builders (which are built)
+ * and arrays or collections (which are copied to the target array, list or set). Any other case makes the whole
+ * interface unsupported, so that the dynamic proxy and its conversions keep being used at runtime.
+ * <p>
+ * The implementation of {@code com.acme.PersonBuilder} is named {@code com.acme.FluentBuilder_PersonBuilder} (nested
+ * interfaces have the names of their enclosing types joined by underscores) and exposes its
+ * {@link com.fluentinterface.BuilderFactory} as a static {@code FACTORY} field.
+ */
+class BuilderSourceGenerator {
+
+    static final String CLASS_NAME_PREFIX = "FluentBuilder_";
+
+    private static final Pattern BUILDER_METHOD_PROPERTY_PATTERN = Pattern.compile("[a-z]+([A-Z].*)");
+    private static final String BUILDER_CLASS = "com.fluentinterface.builder.Builder";
+    private static final String SUPPLIER_CLASS = "java.util.function.Supplier";
+
+    private final Types types;
+    private final Elements elements;
+    private final TypeElement builderInterface;
+    private final TypeElement builderElement;
+    private final String packageName;
+    private final String className;
+
+    private TypeElement builtElement;
+    private String builtTypeName;
+    private final Map<String, Property> properties = new LinkedHashMap<>();
+    private final List<Setter> setters = new ArrayList<>();
+    private final List<String> constructingMethods = new ArrayList<>();
+    private String buildMethodSignature;
+
+    BuilderSourceGenerator(ProcessingEnvironment env, TypeElement builderInterface, TypeElement builderElement) {
+        this.types = env.getTypeUtils();
+        this.elements = env.getElementUtils();
+        this.builderInterface = builderInterface;
+        this.builderElement = builderElement;
+        this.packageName = elements.getPackageOf(builderInterface).getQualifiedName().toString();
+        this.className = generatedClassName(builderInterface);
+    }
+
+    private static String generatedClassName(TypeElement builderInterface) {
+        StringBuilder name = new StringBuilder(builderInterface.getSimpleName());
+        for (Element e = builderInterface.getEnclosingElement(); e instanceof TypeElement; e = e.getEnclosingElement()) {
+            name.insert(0, e.getSimpleName() + "_");
+        }
+        return CLASS_NAME_PREFIX + name;
+    }
+
+    String getQualifiedClassName() {
+        return packageName.isEmpty() ? className : packageName + "." + className;
+    }
+
+    /**
+     * @return the source of the generated implementation.
+     * @throws UnsupportedBuilderException when the builder interface cannot be implemented without the dynamic proxy.
+     */
+    String generate() throws UnsupportedBuilderException {
+        if (!isAccessible(builderInterface)) {
+            throw new UnsupportedBuilderException("the interface is not accessible from its package");
+        }
+        if (!builderInterface.getTypeParameters().isEmpty()) {
+            throw new UnsupportedBuilderException("generic builder interfaces are not supported");
+        }
+
+        resolveBuiltType();
+
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(builderInterface))) {
+            if (method.getModifiers().contains(Modifier.ABSTRACT)) {
+                analyze(method);
+            }
+        }
+
+        if (constructingMethods.isEmpty() && !hasAccessibleEmptyConstructor()) {
+            throw new UnsupportedBuilderException("[%s] has no accessible empty constructor", builtTypeName);
+        }
+
+        return source();
+    }
+
+    private void resolveBuiltType() throws UnsupportedBuilderException {
+        TypeMirror builtType = builtTypeOf(builderInterface.asType());
+        if (builtType == null || builtType.getKind() != TypeKind.DECLARED) {
+            throw new UnsupportedBuilderException("the type of the built objects cannot be determined");
+        }
+
+        builtElement = (TypeElement) types.asElement(builtType);
+        if (builtElement.getKind() != ElementKind.CLASS
+                || builtElement.getModifiers().contains(Modifier.ABSTRACT)
+                || !builtElement.getTypeParameters().isEmpty()
+                || (builtElement.getNestingKind() == NestingKind.MEMBER && !builtElement.getModifiers().contains(Modifier.STATIC))
+                || !isAccessible(builtElement)) {
+            throw new UnsupportedBuilderException("[%s] cannot be instantiated directly", builtType);
+        }
+        builtTypeName = builtElement.getQualifiedName().toString();
+
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(builtElement.getEnclosedElements())) {
+            if (constructor.getAnnotation(CanonicalConstructor.class) != null) {
+                throw new UnsupportedBuilderException("[%s] is instantiated through its @CanonicalConstructor", builtTypeName);
+            }
+        }
+    }
+
+    private void analyze(ExecutableElement method) throws UnsupportedBuilderException {
+        ExecutableType type = (ExecutableType) types.asMemberOf((DeclaredType) builderInterface.asType(), method);
+
+        if (!method.getTypeParameters().isEmpty()) {
+            throw new UnsupportedBuilderException("generic method [%s] is not supported", method);
+        }
+
+        boolean returnsBuilder = type.getReturnType().getKind() == TypeKind.DECLARED
+                && types.isAssignable(types.erasure(builderInterface.asType()), types.erasure(type.getReturnType()));
+
+        if (method.getAnnotation(Constructs.class) != null && returnsBuilder) {
+            constructingMethods.add(constructingMethod(method, type));
+        } else if (isBuildMethod(method)) {
+            buildMethodSignature = signature(method, type, "constructorArgs");
+        } else if (returnsBuilder) {
+            setters.add(setter(method, type));
+        } else {
+            throw new UnsupportedBuilderException("method [%s] is not a setter, a build or a constructing method", method);
+        }
+    }
+
+    private boolean isBuildMethod(ExecutableElement method) {
+        return method.getSimpleName().contentEquals("build") && method.getEnclosingElement().equals(builderElement);
+    }
+
+    private Setter setter(ExecutableElement method, ExecutableType type) throws UnsupportedBuilderException {
+        String propertyName = propertyName(method);
+        if (propertyName == null || propertyName.isEmpty()) {
+            throw new UnsupportedBuilderException("method [%s] does not seem to represent a setter for a property", method);
+        }
+        if (propertyName.indexOf('.') >= 0 || propertyName.indexOf('[') >= 0) {
+            throw new UnsupportedBuilderException("nested property [%s] of method [%s] requires the dynamic proxy", propertyName, method);
+        }
+
+        Property property = properties.get(propertyName);
+        if (property == null) {
+            ExecutableElement setter = findSetter(propertyName);
+            TypeMirror propertyType = ((ExecutableType) types.asMemberOf((DeclaredType) builtElement.asType(), setter))
+                    .getParameterTypes().get(0);
+
+            property = new Property(properties.size(), propertyName, setter.getSimpleName().toString(), propertyType);
+            properties.put(propertyName, property);
+        }
+
+        String value;
+        if (type.getParameterTypes().size() > 1) {
+            throw new UnsupportedBuilderException("setter [%s] has more than one parameter", method);
+        } else if (type.getParameterTypes().isEmpty()) {
+            if (property.type.getKind().isPrimitive()) {
+                throw new UnsupportedBuilderException("method [%s] cannot set primitive property [%s] to null", method, propertyName);
+            }
+            value = "null";
+        } else {
+            value = conversion(method, type.getParameterTypes().get(0), property);
+        }
+
+        return new Setter(signature(method, type, "value"), property, value);
+    }
+
+    private String constructingMethod(ExecutableElement method, ExecutableType type) throws UnsupportedBuilderException {
+        List<? extends TypeMirror> parameterTypes = type.getParameterTypes();
+
+        List<ExecutableElement> candidates = new ArrayList<>();
+        for (ExecutableElement constructor : accessibleConstructors()) {
+            List<? extends VariableElement> constructorParameters = constructor.getParameters();
+            if (constructorParameters.size() != parameterTypes.size()) {
+                continue;
+            }
+
+            boolean matches = true;
+            for (int i = 0; i < parameterTypes.size() && matches; i++) {
+                matches = isDirectlyAssignable(parameterTypes.get(i), constructorParameters.get(i).asType());
+            }
+            if (matches) {
+                candidates.add(constructor);
+            }
+        }
+
+        if (candidates.size() != 1) {
+            throw new UnsupportedBuilderException("no single constructor of [%s] matches @Constructs method [%s] without conversion",
+                                                  builtTypeName, method);
+        }
+
+        StringJoiner arguments = new StringJoiner(", ");
+        for (int i = 0; i < parameterTypes.size(); i++) {
+            arguments.add("arg" + i);
+        }
+
+        return "    @Override\n"
+                + "    " + signature(method, type, "arg") + " {\n"
+                + "        this.instantiator = () -> new " + builtTypeName + "(" + arguments + ");\n"
+                + "        return this;\n"
+                + "    }\n";
+    }
+
+    /**
+     * @return the expression converting the {@code value} parameter to the type of the property.
+     */
+    private String conversion(ExecutableElement method, TypeMirror from, Property property) throws UnsupportedBuilderException {
+        TypeMirror to = property.type;
+
+        if (isDirectlyAssignable(from, to)) {
+            return "value";
+        }
+
+        if (isBuilder(from)) {
+            TypeMirror built = builtTypeOf(from);
+            if (built != null && types.isAssignable(built, to)) {
+                property.lazy = true;
+                return "value == null ? null : value.build()";
+            }
+        } else if (isMultiValued(from)) {
+            String copy = copyOfMultipleValues(from, to);
+            if (copy != null) {
+                property.lazy = true;
+                return "value == null ? null : " + copy;
+            }
+        }
+
+        throw new UnsupportedBuilderException("the argument of method [%s] cannot be set on property [%s] of type [%s] without conversion",
+                                              method, property.name, to);
+    }
+
+    private String copyOfMultipleValues(TypeMirror from, TypeMirror to) {
+        TypeMirror element = elementTypeOf(from);
+        if (isBuilder(element) || couldBeBuilder(element)) {
+            return null;
+        }
+
+        if (to.getKind() == TypeKind.ARRAY) {
+            TypeMirror component = ((ArrayType) to).getComponentType();
+
+            if (element.getKind().isPrimitive() || component.getKind().isPrimitive()) {
+                return from.getKind() == TypeKind.ARRAY && types.isSameType(element, component) ? "value.clone()" : null;
+            }
+            if (!types.isAssignable(element, component)) {
+                return null;
+            }
+            return from.getKind() == TypeKind.ARRAY
+                    ? "java.util.Arrays.copyOf(value, value.length, " + types.erasure(to) + ".class)"
+                    : "value.toArray(new " + types.erasure(component) + "[0])";
+        }
+
+        String collectionClass = collectionImplementationFor(to);
+        if (collectionClass == null || element.getKind().isPrimitive()) {
+            return null;
+        }
+
+        List<? extends TypeMirror> typeArguments = ((DeclaredType) to).getTypeArguments();
+        String typeArgument = "";
+        if (!typeArguments.isEmpty()) {
+            TypeMirror targetElement = typeArguments.get(0);
+            if (targetElement.getKind() != TypeKind.DECLARED || !types.isAssignable(element, targetElement)) {
+                return null;
+            }
+            typeArgument = "<" + targetElement + ">";
+        }
+
+        String source = from.getKind() == TypeKind.ARRAY ? "java.util.Arrays.asList(value)" : "value";
+        return "new " + collectionClass + typeArgument + "(" + source + ")";
+    }
+
+    private String collectionImplementationFor(TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        switch (((TypeElement) types.asElement(type)).getQualifiedName().toString()) {
+            case "java.util.List":
+                return "java.util.ArrayList";
+            case "java.util.Set":
+                return "java.util.HashSet";
+            case "java.util.SortedSet":
+                return "java.util.TreeSet";
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * @return whether a value of the provided type can be set on the target type as is, without any of the conversions
+     * performed by the dynamic builders.
+     */
+    private boolean isDirectlyAssignable(TypeMirror from, TypeMirror to) {
+        if (to.getKind().isPrimitive()) {
+            return from.getKind() == to.getKind();
+        }
+        if (from.getKind().isPrimitive()) {
+            return types.isAssignable(types.boxedClass((PrimitiveType) from).asType(), to);
+        }
+        if (isBuilder(from) || couldBeBuilder(from) || isMultiValued(from)) {
+            return false;
+        }
+        return types.isAssignable(from, to);
+    }
+
+    private boolean isBuilder(TypeMirror type) {
+        return !type.getKind().isPrimitive()
+                && types.isAssignable(types.erasure(type), types.erasure(builderElement.asType()));
+    }
+
+    private boolean couldBeBuilder(TypeMirror type) {
+        return !type.getKind().isPrimitive()
+                && types.isAssignable(types.erasure(builderElement.asType()), types.erasure(type));
+    }
+
+    private boolean isMultiValued(TypeMirror type) {
+        return type.getKind() == TypeKind.ARRAY
+                || (type.getKind() == TypeKind.DECLARED && types.isAssignable(
+                        types.erasure(type), types.erasure(elements.getTypeElement("java.util.Collection").asType())));
+    }
+
+    private TypeMirror elementTypeOf(TypeMirror multiValued) {
+        if (multiValued.getKind() == TypeKind.ARRAY) {
+            return ((ArrayType) multiValued).getComponentType();
+        }
+
+        TypeElement collection = elements.getTypeElement("java.util.Collection");
+        for (TypeMirror supertype : allSupertypes(multiValued)) {
+            if (types.asElement(supertype).equals(collection)) {
+                List<? extends TypeMirror> arguments = ((DeclaredType) supertype).getTypeArguments();
+                if (!arguments.isEmpty() && arguments.get(0).getKind() == TypeKind.DECLARED) {
+                    return arguments.get(0);
+                }
+            }
+        }
+        return elements.getTypeElement("java.lang.Object").asType();
+    }
+
+    /**
+     * @return the type argument of {@code Builder<T>} in the supertypes of the provided type, if any.
+     */
+    private TypeMirror builtTypeOf(TypeMirror type) {
+        for (TypeMirror supertype : allSupertypes(type)) {
+            if (types.asElement(supertype).equals(builderElement)) {
+                List<? extends TypeMirror> arguments = ((DeclaredType) supertype).getTypeArguments();
+                return arguments.isEmpty() ? null : arguments.get(0);
+            }
+        }
+        return null;
+    }
+
+    private List<TypeMirror> allSupertypes(TypeMirror type) {
+        List<TypeMirror> supertypes = new ArrayList<>();
+        Deque<TypeMirror> remaining = new ArrayDeque<>();
+        remaining.add(type);
+        while (!remaining.isEmpty()) {
+            TypeMirror current = remaining.poll();
+            supertypes.add(current);
+            remaining.addAll(types.directSupertypes(current));
+        }
+        return supertypes;
+    }
+
+    private String propertyName(ExecutableElement method) throws UnsupportedBuilderException {
+        String propertyName = null;
+
+        for (AnnotationMirror annotation : method.getAnnotationMirrors()) {
+            if (!((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals(Sets.class.getCanonicalName())) {
+                continue;
+            }
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value : annotation.getElementValues().entrySet()) {
+                String name = value.getKey().getSimpleName().toString();
+                if (name.equals("property")) {
+                    propertyName = (String) value.getValue().getValue();
+                } else if (name.equals("via")) {
+                    throw new UnsupportedBuilderException("custom conversion of method [%s] requires the dynamic proxy", method);
+                }
+            }
+        }
+
+        if (propertyName == null || propertyName.isEmpty()) {
+            Matcher propertyNameMatcher = BUILDER_METHOD_PROPERTY_PATTERN.matcher(method.getSimpleName());
+            if (propertyNameMatcher.matches()) {
+                String name = propertyNameMatcher.group(1);
+                propertyName = Character.toLowerCase(name.charAt(0)) + name.substring(1);
+            }
+        }
+        return propertyName;
+    }
+
+    /**
+     * Finds the public setter of the property, following the same naming rules as the dynamic builders.
+     */
+    private ExecutableElement findSetter(String propertyName) throws UnsupportedBuilderException {
+        List<ExecutableElement> candidates = new ArrayList<>();
+
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(builtElement))) {
+            String name = method.getSimpleName().toString();
+            if (name.length() > 3 && name.startsWith("set")
+                    && method.getParameters().size() == 1
+                    && method.getReturnType().getKind() == TypeKind.VOID
+                    && !method.getModifiers().contains(Modifier.STATIC)
+                    && method.getModifiers().contains(Modifier.PUBLIC)
+                    && decapitalize(name.substring(3)).equals(propertyName)) {
+                candidates.add(method);
+            }
+        }
+
+        if (candidates.size() != 1) {
+            throw new UnsupportedBuilderException("[%s] has no single public setter for property [%s]", builtTypeName, propertyName);
+        }
+        return candidates.get(0);
+    }
+
+    private static String decapitalize(String name) {
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private List<ExecutableElement> accessibleConstructors() {
+        List<ExecutableElement> constructors = new ArrayList<>();
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(builtElement.getEnclosedElements())) {
+            if (isAccessible(constructor)) {
+                constructors.add(constructor);
+            }
+        }
+        return constructors;
+    }
+
+    private boolean hasAccessibleEmptyConstructor() {
+        return accessibleConstructors().stream().anyMatch(constructor -> constructor.getParameters().isEmpty());
+    }
+
+    /**
+     * @return whether the element can be used from a class of the package of the builder interface.
+     */
+    private boolean isAccessible(Element element) {
+        for (Element e = element; e != null && e.getKind() != ElementKind.PACKAGE; e = e.getEnclosingElement()) {
+            Set<Modifier> modifiers = e.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            if (!modifiers.contains(Modifier.PUBLIC)
+                    && !elements.getPackageOf(e).getQualifiedName().contentEquals(packageName)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String signature(ExecutableElement method, ExecutableType type, String parameterName) {
+        List<? extends TypeMirror> parameterTypes = type.getParameterTypes();
+
+        StringJoiner parameters = new StringJoiner(", ");
+        for (int i = 0; i < parameterTypes.size(); i++) {
+            String parameterType = parameterTypes.get(i).toString();
+            if (method.isVarArgs() && i == parameterTypes.size() - 1) {
+                parameterType = parameterType.substring(0, parameterType.length() - 2) + "...";
+            }
+            parameters.add(parameterType + " " + (parameterTypes.size() > 1 || parameterName.equals("arg")
+                    ? parameterName + i : parameterName));
+        }
+
+        return "public " + type.getReturnType() + " " + method.getSimpleName() + "(" + parameters + ")";
+    }
+
+    private String source() {
+        String interfaceName = builderInterface.getQualifiedName().toString();
+        StringBuilder source = new StringBuilder();
+
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n")
+              .append(" * Implementation of {@link ").append(interfaceName).append("} generated by the fluent-interface-proxy annotation processor.\n")
+              .append(" */\n")
+              .append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+              .append("public final class ").append(className).append(" implements ").append(interfaceName).append(" {\n\n")
+              .append("    public static final com.fluentinterface.BuilderFactory<").append(interfaceName).append("> FACTORY = ")
+              .append(className).append("::new;\n\n");
+
+        source.append("    private ").append(SUPPLIER_CLASS).append("<").append(builtTypeName).append("> instantiator = ");
+        if (hasAccessibleEmptyConstructor()) {
+            source.append(builtTypeName).append("::new;\n");
+        } else {
+            source.append("() -> {\n")
+                  .append("        throw new IllegalStateException(\"[").append(builtTypeName)
+                  .append("] has no empty constructor: use a @Constructs method or pass arguments to build()\");\n")
+                  .append("    };\n");
+        }
+
+        source.append("    private final int[] setOrder = new int[").append(properties.size()).append("];\n")
+              .append("    private int setCount;\n");
+        for (Property property : properties.values()) {
+            if (property.lazy) {
+                source.append("    private ").append(SUPPLIER_CLASS).append("<? extends ").append(property.type).append("> ")
+                      .append(property.field()).append(";\n");
+            } else {
+                source.append("    private ").append(property.type).append(" ").append(property.field()).append(";\n")
+                      .append("    private boolean ").append(property.flag()).append(";\n");
+            }
+        }
+        source.append("\n");
+
+        for (Setter setter : setters) {
+            source.append("    @Override\n")
+                  .append("    ").append(setter.signature).append(" {\n");
+            if (setter.property.lazy) {
+                source.append("        if (this.").append(setter.property.field()).append(" == null) {\n")
+                      .append("            this.setOrder[setCount++] = ").append(setter.property.index).append(";\n")
+                      .append("        }\n")
+                      .append("        this.").append(setter.property.field()).append(" = () -> ").append(setter.value).append(";\n");
+            } else {
+                source.append("        if (!this.").append(setter.property.flag()).append(") {\n")
+                      .append("            this.setOrder[setCount++] = ").append(setter.property.index).append(";\n")
+                      .append("        }\n")
+                      .append("        this.").append(setter.property.field()).append(" = ").append(setter.value).append(";\n")
+                      .append("        this.").append(setter.property.flag()).append(" = true;\n");
+            }
+            source.append("        return this;\n")
+                  .append("    }\n\n");
+        }
+
+        for (String constructingMethod : constructingMethods) {
+            source.append(constructingMethod).append("\n");
+        }
+
+        appendBuildMethod(source);
+        appendConstructMethod(source);
+
+        return source.append("}\n").toString();
+    }
+
+    private void appendBuildMethod(StringBuilder source) {
+        source.append("    @Override\n")
+              .append("    ").append(buildMethodSignature).append(" {\n")
+              .append("        ").append(builtTypeName).append(" built = constructorArgs.length > 0\n")
+              .append("                ? construct(constructorArgs) : instantiator.get();\n\n");
+
+        if (!properties.isEmpty()) {
+            source.append("        for (int i = 0; i < setCount; i++) {\n")
+                  .append("            switch (setOrder[i]) {\n");
+            for (Property property : properties.values()) {
+                source.append("                case ").append(property.index).append(":\n")
+                      .append("                    built.").append(property.setter).append("(").append(property.field())
+                      .append(property.lazy ? ".get()" : "").append(");\n")
+                      .append("                    break;\n");
+            }
+            source.append("            }\n")
+                  .append("        }\n");
+        }
+        source.append("        return built;\n")
+              .append("    }\n\n");
+    }
+
+    /**
+     * The equivalent of {@code BestMatchingConstructor}, for the constructors known at compile time.
+     */
+    private void appendConstructMethod(StringBuilder source) {
+        List<ExecutableElement> constructors = new ArrayList<>();
+        for (ExecutableElement constructor : accessibleConstructors()) {
+            if (!constructor.getParameters().isEmpty()) {
+                constructors.add(constructor);
+            }
+        }
+
+        source.append("    private static ").append(builtTypeName).append(" construct(Object[] args) {\n")
+              .append("        for (int i = 0; i < args.length; i++) {\n")
+              .append("            if (args[i] instanceof ").append(BUILDER_CLASS).append(") {\n")
+              .append("                args[i] = ((").append(BUILDER_CLASS).append(") args[i]).build();\n")
+              .append("            }\n")
+              .append("        }\n\n");
+
+        StringJoiner matchCount = new StringJoiner(" + ");
+        for (int c = 0; c < constructors.size(); c++) {
+            List<? extends VariableElement> parameters = constructors.get(c).getParameters();
+
+            source.append("        boolean matches").append(c).append(" = args.length == ").append(parameters.size());
+            for (int i = 0; i < parameters.size(); i++) {
+                source.append("\n                && (args[").append(i).append("] == null || args[").append(i)
+                      .append("] instanceof ").append(referenceTypeName(parameters.get(i).asType())).append(")");
+            }
+            source.append(";\n");
+            matchCount.add("(matches" + c + " ? 1 : 0)");
+        }
+
+        if (!constructors.isEmpty()) {
+            source.append("\n        int matches = ").append(matchCount).append(";\n")
+                  .append("        if (matches > 1) {\n")
+                  .append("            throw new IllegalArgumentException(String.format(\n")
+                  .append("                    \"Found %s constructors matching arguments %s on class [%s], which is too ambiguous to proceed.\",\n")
+                  .append("                    matches, java.util.Arrays.toString(args), ").append(builtTypeName).append(".class));\n")
+                  .append("        }\n");
+        }
+
+        for (int c = 0; c < constructors.size(); c++) {
+            StringJoiner arguments = new StringJoiner(", ");
+            List<? extends VariableElement> parameters = constructors.get(c).getParameters();
+            for (int i = 0; i < parameters.size(); i++) {
+                arguments.add("(" + referenceTypeName(parameters.get(i).asType()) + ") args[" + i + "]");
+            }
+            source.append("        if (matches").append(c).append(") {\n")
+                  .append("            return new ").append(builtTypeName).append("(").append(arguments).append(");\n")
+                  .append("        }\n");
+        }
+
+        source.append("        throw new IllegalArgumentException(String.format(\n")
+              .append("                \"No constructor found on class [%s] that matches arguments %s\",\n")
+              .append("                ").append(builtTypeName).append(".class, java.util.Arrays.toString(args)));\n")
+              .append("    }\n");
+    }
+
+    private String referenceTypeName(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return types.boxedClass((PrimitiveType) type).getQualifiedName().toString();
+        }
+        return types.erasure(type).toString();
+    }
+
+    private static class Property {
+        final int index;
+        final String name;
+        final String setter;
+        final TypeMirror type;
+        boolean lazy;
+
+        Property(int index, String name, String setter, TypeMirror type) {
+            this.index = index;
+            this.name = name;
+            this.setter = setter;
+            this.type = type;
+        }
+
+        String field() {
+            return name + "Value";
+        }
+
+        String flag() {
+            return name + "Set";
+        }
+    }
+
+    private static class Setter {
+        final String signature;
+        final Property property;
+        final String value;
+
+        Setter(String signature, Property property, String value) {
+            this.signature = signature;
+            this.property = property;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.fluentinterface.processor;
+
+/**
+ * Thrown when a builder interface cannot be implemented at compile time, in which case the dynamic proxy keeps being
+ * used for it at runtime.
+ */
+class UnsupportedBuilderException extends Exception {
+
+    UnsupportedBuilderException(String message, Object... args) {
+        super(String.format(message, args));
+    }
+}
@@ -0,0 +1,173 @@
+package com.fluentinterface.processor;
+
+import com.fluentinterface.builder.Builder;
+import com.fluentinterface.proxy.BuilderEngine;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+
+import static com.fluentinterface.ReflectionBuilder.implementationFor;
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+public class BuilderProcessorTest {
+
+    private CarBuilder aCar() {
+        return implementationFor(CarBuilder.class).create();
+    }
+
+    private EngineBuilder anEngine() {
+        return implementationFor(EngineBuilder.class).create();
+    }
+
+    @Test
+    public void shouldUseGeneratedImplementationWhenPresent() {
+        CarBuilder builder = aCar();
+
+        assertThat(Proxy.isProxyClass(builder.getClass()), is(false));
+        assertThat(builder.getClass().getName(), is("com.fluentinterface.processor.FluentBuilder_CarBuilder"));
+    }
+
+    @Test
+    public void shouldSetProperties() {
+        Car car = aCar()
+                .withModel("Corolla")
+                .withDoors(4)
+                .build();
+
+        assertThat(car.getModel(), is("Corolla"));
+        assertThat(car.getDoors(), is(4));
+    }
+
+    @Test
+    public void shouldOnlySetPropertiesThatWereSetOnBuilder() {
+        Car car = aCar().withDoors(4).build();
+
+        assertThat(car.getModel(), is(nullValue()));
+        assertThat(car.getOptions(), is(nullValue()));
+    }
+
+    @Test
+    public void shouldSetPropertyValueToLastOneWhenCalledMultipleTimes() {
+        Car car = aCar()
+                .withModel("Corolla")
+                .unnamed()
+                .build();
+
+        assertThat(car.getModel(), is(nullValue()));
+    }
+
+    @Test
+    public void shouldSetPropertiesInTheOrderTheyWereFirstSetLikeDynamicProxy() {
+        CarBuilder proxy = implementationFor(CarBuilder.class).usingEngine(BuilderEngine.DYNAMIC_PROXY).create();
+
+        Car generated = setSomeProperties(aCar()).build();
+        Car proxied = setSomeProperties(proxy).build();
+
+        assertThat(generated.getAssignments(), contains("doors", "engine", "model", "options"));
+        assertThat(generated.getAssignments(), is(proxied.getAssignments()));
+    }
+
+    private CarBuilder setSomeProperties(CarBuilder builder) {
+        return builder.withDoors(4)
+                      .withEngine(anEngine().withHorsePower(180))
+                      .withModel("Corolla")
+                      .withDoors(2)
+                      .withOptions("sunroof")
+                      .withEngine(anEngine().withHorsePower(200));
+    }
+
+    @Test
+    public void shouldCopyArraysAndCollectionsToTargetType() {
+        Car car = aCar()
+                .withOptions("sunroof", "heated seats")
+                .withOwners(asList("John", "Jane"))
+                .withWheelSizes(17, 17, 17, 17)
+                .build();
+
+        assertThat(car.getOptions(), containsInAnyOrder("sunroof", "heated seats"));
+        assertThat(car.getOwners(), contains("John", "Jane"));
+        assertThat(car.getWheelSizes(), is(new int[]{17, 17, 17, 17}));
+    }
+
+    @Test
+    public void shouldBuildBuildersPassedAsValues() {
+        Car car = aCar()
+                .withEngine(anEngine().withHorsePower(180))
+                .build();
+
+        assertThat(car.getEngine().getHorsePower(), is(180));
+    }
+
+    @Test
+    public void shouldUseConstructingMethod() {
+        Car car = aCar()
+                .ofBrand("Toyota")
+                .withModel("Corolla")
+                .build();
+
+        assertThat(car.getBrand(), is("Toyota"));
+        assertThat(car.getModel(), is("Corolla"));
+    }
+
+    @Test
+    public void shouldCallConstructorMatchingBuildArguments() {
+        Car car = aCar().build("Toyota", 2);
+
+        assertThat(car.getBrand(), is("Toyota"));
+        assertThat(car.getDoors(), is(2));
+    }
+
+    @Test
+    public void shouldBuildBuildersPassedAsBuildArguments() {
+        Car car = aCar().build("Toyota", anEngine().withHorsePower(180));
+
+        assertThat(car.getBrand(), is("Toyota"));
+        assertThat(car.getEngine().getHorsePower(), is(180));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldFailWhenMultipleConstructorsMatchBuildArguments() {
+        aCar().build("Toyota", null);
+    }
+
+    @Test
+    public void shouldPassthroughDefaultMethods() {
+        Car car = aCar().withModelAndDoors("Corolla", 4).build();
+
+        assertThat(car.getModel(), is("Corolla"));
+        assertThat(car.getDoors(), is(4));
+    }
+
+    @Test
+    public void shouldGenerateImplementationOfNestedInterfaces() {
+        NestedEngineBuilder builder = implementationFor(NestedEngineBuilder.class).create();
+
+        assertThat(Proxy.isProxyClass(builder.getClass()), is(false));
+        assertThat(builder.withHorsePower(300).build().getHorsePower(), is(300));
+    }
+
+    @Test
+    public void shouldFallBackOnDynamicProxyWhenConversionsAreNeeded() {
+        ConvertingEngineBuilder builder = implementationFor(ConvertingEngineBuilder.class).create();
+
+        assertThat(Proxy.isProxyClass(builder.getClass()), is(true));
+        assertThat(builder.withHorsePower("300").build().getHorsePower(), is(300));
+    }
+
+    @Test
+    public void shouldUseDynamicProxyWhenBuilderIsCustomized() {
+        CarBuilder builder = implementationFor(CarBuilder.class).usingFieldsDirectly().create();
+
+        assertThat(Proxy.isProxyClass(builder.getClass()), is(true));
+    }
+
+    public interface NestedEngineBuilder extends Builder<Engine> {
+        NestedEngineBuilder withHorsePower(int horsePower);
+    }
+
+    public interface ConvertingEngineBuilder extends Builder<Engine> {
+        ConvertingEngineBuilder withHorsePower(String horsePower);
+    }
+}
@@ -0,0 +1,102 @@
+package com.fluentinterface.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+public class Car {
+    private String brand;
+    private String model;
+    private int doors;
+    private Set<String> options;
+    private List<String> owners;
+    private int[] wheelSizes;
+    private Engine engine;
+    private final List<String> assignments = new ArrayList<>();
+
+    public Car() {
+    }
+
+    public Car(String brand) {
+        this.brand = brand;
+    }
+
+    public Car(String brand, int doors) {
+        this.brand = brand;
+        this.doors = doors;
+    }
+
+    public Car(String brand, Engine engine) {
+        this.brand = brand;
+        this.engine = engine;
+    }
+
+    public String getBrand() {
+        return brand;
+    }
+
+    public void setBrand(String brand) {
+        this.brand = brand;
+    }
+
+    public String getModel() {
+        return model;
+    }
+
+    public void setModel(String model) {
+        this.model = model;
+        assignments.add("model");
+    }
+
+    public int getDoors() {
+        return doors;
+    }
+
+    public void setDoors(int doors) {
+        this.doors = doors;
+        assignments.add("doors");
+    }
+
+    public Set<String> getOptions() {
+        return options;
+    }
+
+    public void setOptions(Set<String> options) {
+        this.options = options;
+        assignments.add("options");
+    }
+
+    public List<String> getOwners() {
+        return owners;
+    }
+
+    public void setOwners(List<String> owners) {
+        this.owners = owners;
+        assignments.add("owners");
+    }
+
+    public int[] getWheelSizes() {
+        return wheelSizes;
+    }
+
+    public void setWheelSizes(int[] wheelSizes) {
+        this.wheelSizes = wheelSizes;
+        assignments.add("wheelSizes");
+    }
+
+    public Engine getEngine() {
+        return engine;
+    }
+
+    public void setEngine(Engine engine) {
+        this.engine = engine;
+        assignments.add("engine");
+    }
+
+    /**
+     * @return the properties set through their setter, in the order they were set.
+     */
+    public List<String> getAssignments() {
+        return assignments;
+    }
+}
@@ -0,0 +1,32 @@
+package com.fluentinterface.processor;
+
+import com.fluentinterface.annotation.Constructs;
+import com.fluentinterface.annotation.Sets;
+import com.fluentinterface.builder.Builder;
+
+import java.util.Collection;
+
+public interface CarBuilder extends Builder<Car> {
+
+    @Constructs
+    CarBuilder ofBrand(String brand);
+
+    CarBuilder withModel(String model);
+
+    @Sets(property = "model")
+    CarBuilder unnamed();
+
+    CarBuilder withDoors(int doors);
+
+    CarBuilder withOptions(String... options);
+
+    CarBuilder withOwners(Collection<String> owners);
+
+    CarBuilder withWheelSizes(int... wheelSizes);
+
+    CarBuilder withEngine(EngineBuilder engine);
+
+    default CarBuilder withModelAndDoors(String model, int doors) {
+        return withModel(model).withDoors(doors);
+    }
+}
@@ -0,0 +1,13 @@
+package com.fluentinterface.processor;
+
+public class Engine {
+    private int horsePower;
+
+    public int getHorsePower() {
+        return horsePower;
+    }
+
+    public void setHorsePower(int horsePower) {
+        this.horsePower = horsePower;
+    }
+}
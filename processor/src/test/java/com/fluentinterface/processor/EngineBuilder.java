@@ -0,0 +1,8 @@
+package com.fluentinterface.processor;
+
+import com.fluentinterface.builder.Builder;
+
+public interface EngineBuilder extends Builder<Engine> {
+
+    EngineBuilder withHorsePower(int horsePower);
+}